@@ -1,5 +1,8 @@
 package com.core;
 
+import com.core.common.startup.ProfiledMapperFactoryBean;
+import com.core.common.startup.StartupProfileReporter;
+import org.apache.ibatis.annotations.Mapper;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -7,8 +10,16 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 
+/**
+ * 도메인 Mapper(@Mapper)는 여기서 등록하고, 레거시 Mapper(com.core.mapper)는 LegacyMapperConfiguration에서 등록합니다.
+ * (@MapperScan이 하나라도 있으면 MyBatis 자동 스캔이 꺼지므로 도메인 패키지도 명시적으로 스캔)
+ * Mapper 스캐너는 빈 정의의 지연 초기화 여부를 직접 지정하므로 spring.main.lazy-initialization을 그대로 넘깁니다.
+ */
 @SpringBootApplication(exclude = {DataSourceAutoConfiguration.class})
-@MapperScan(basePackages = "com.core.mapper")
+@MapperScan(basePackages = {"com.core.domain", "com.core.common"},
+        annotationClass = Mapper.class,
+        factoryBean = ProfiledMapperFactoryBean.class,
+        lazyInitialization = "${spring.main.lazy-initialization:false}")
 @ComponentScan(basePackages = "com.core",
         excludeFilters = @ComponentScan.Filter(
                 type = FilterType.ASSIGNABLE_TYPE,
@@ -20,7 +31,9 @@ import org.springframework.context.annotation.FilterType;
 public class CoreApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(CoreApplication.class, args);
+        SpringApplication application = new SpringApplication(CoreApplication.class);
+        application.setApplicationStartup(StartupProfileReporter.applicationStartup());
+        application.run(args);
     }
 
 }
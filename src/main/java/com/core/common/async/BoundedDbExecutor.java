@@ -0,0 +1,79 @@
+package com.core.common.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * DB 호출 전용 제한 실행기
+ *
+ * 비동기 컨트롤러의 DB 호출을 서블릿 스레드 대신 이 실행기에서 실행합니다.
+ * - 스레드 수(pool-size)는 커넥션 풀 크기에 맞춰, 동시에 진행 중인 DB 호출 수를 명시적으로 제한합니다.
+ * - 대기 큐(queue-capacity)가 가득 차면 RejectedExecutionException으로 즉시 거절합니다 (호출 측에서 503 응답).
+ */
+@Component
+public class BoundedDbExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedDbExecutor(@Value("${core.db-executor.pool-size:10}") int poolSize,
+                             @Value("${core.db-executor.queue-capacity:100}") int queueCapacity,
+                             @Value("${core.db-executor.timeout-millis:3000}") long timeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "db-exec-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * DB 호출 비동기 실행
+     *
+     * @param task 실행할 작업
+     * @return CompletableFuture 작업 결과
+     * @throws RejectedExecutionException 대기 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * 요청당 대기 시간 제한 (밀리초)
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+}
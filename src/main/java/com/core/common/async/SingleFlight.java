@@ -0,0 +1,90 @@
+package com.core.common.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 호출 병합 (single-flight)
+ *
+ * 같은 키로 동시에 들어온 호출 중 첫 호출만 실제로 실행하고,
+ * 실행 중에 들어온 나머지 호출은 그 결과(또는 예외)를 함께 받습니다.
+ * 실행이 끝나면 키가 제거되므로 결과를 캐시하지는 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 키로 병합하여 실행
+     *
+     * @param key 병합 키 (결과가 같은 호출은 같은 키)
+     * @param loader 실제 실행할 작업
+     * @return V 실행 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실제로 실행된 횟수
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * 다른 호출의 결과를 함께 받아 실행을 생략한 횟수
+     */
+    public long getShared() {
+        return shared.sum();
+    }
+
+    /**
+     * 현재 실행 중인 키 수
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
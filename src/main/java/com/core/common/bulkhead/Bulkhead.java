@@ -0,0 +1,25 @@
+package com.core.common.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 작업 부류(bulkhead) 지정
+ *
+ * 메서드(또는 클래스의 모든 public 메서드)를 지정한 작업 부류의 실행 예산 안에서 실행합니다.
+ * 메서드에 지정한 값이 클래스에 지정한 값보다 우선합니다.
+ * core.bulkhead.enabled=true 인 경우에만 적용됩니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * 작업 부류
+     */
+    WorkloadClass value();
+}
@@ -0,0 +1,78 @@
+package com.core.common.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Bulkhead 적용 BeanPostProcessor
+ *
+ * @Bulkhead가 지정된 빈을 프록시로 감싸 메서드 실행 전에 작업 부류의 실행 슬롯을 획득합니다.
+ * - 기존 어드바이저(@Transactional 등)보다 먼저 실행되므로, 슬롯을 기다리는 동안 트랜잭션/커넥션을 잡지 않습니다.
+ * - 이미 슬롯을 가진 스레드의 중첩 호출은 슬롯을 다시 획득하지 않습니다 (부류 간 교착 방지).
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadAnnotationPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final long serialVersionUID = 1L;
+
+    public BulkheadAnnotationPostProcessor(BulkheadRegistry registry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Bulkhead.class, true))
+                .union(new AnnotationMatchingPointcut(null, Bulkhead.class, true));
+        this.advisor = new DefaultPointcutAdvisor(pointcut, new BulkheadInterceptor(registry));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static final class BulkheadInterceptor implements MethodInterceptor {
+
+        private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+        private final BulkheadRegistry registry;
+
+        private BulkheadInterceptor(BulkheadRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            WorkloadClass workloadClass = resolve(invocation);
+            if (workloadClass == null || CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+
+            WorkloadBulkhead bulkhead = registry.get(workloadClass);
+            bulkhead.acquire();
+            CURRENT.set(workloadClass);
+            try {
+                return invocation.proceed();
+            } finally {
+                CURRENT.remove();
+                bulkhead.release();
+            }
+        }
+
+        private WorkloadClass resolve(MethodInvocation invocation) {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : invocation.getMethod().getDeclaringClass();
+            Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+            Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+            if (bulkhead == null) {
+                bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+            }
+            return bulkhead != null ? bulkhead.value() : null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.core.common.bulkhead;
+
+/**
+ * 작업 부류의 실행 예산이 가득 차 거절된 요청
+ * BulkheadExceptionHandler에서 503으로 응답합니다.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final WorkloadClass workloadClass;
+
+    public BulkheadFullException(WorkloadClass workloadClass, String message) {
+        super(message);
+        this.workloadClass = workloadClass;
+    }
+
+    public WorkloadClass getWorkloadClass() {
+        return workloadClass;
+    }
+}
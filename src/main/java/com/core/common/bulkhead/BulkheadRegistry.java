@@ -0,0 +1,47 @@
+package com.core.common.bulkhead;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 작업 부류별 실행 예산 모음
+ *
+ * 모든 부류의 max-concurrent 합계는 DB 커넥션 풀 크기 이하로 설정합니다.
+ * 그러면 한 부류(예: 대량 등록)가 몰려도 다른 부류가 사용할 커넥션과 요청 스레드가 남습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.bulkhead", name = "enabled", havingValue = "true")
+public class BulkheadRegistry {
+
+    private final Map<WorkloadClass, WorkloadBulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public BulkheadRegistry(Environment environment) {
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            String prefix = "core.bulkhead." + workloadClass.getConfigKey() + ".";
+            bulkheads.put(workloadClass, new WorkloadBulkhead(workloadClass,
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, workloadClass.getDefaultMaxConcurrent()),
+                    environment.getProperty(prefix + "max-waiting", Integer.class, workloadClass.getDefaultMaxWaiting()),
+                    environment.getProperty(prefix + "max-wait-millis", Long.class, workloadClass.getDefaultMaxWaitMillis())));
+        }
+    }
+
+    public WorkloadBulkhead get(WorkloadClass workloadClass) {
+        return bulkheads.get(workloadClass);
+    }
+
+    /**
+     * 부류별 포화 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Map.Entry<WorkloadClass, WorkloadBulkhead> entry : bulkheads.entrySet()) {
+            stats.put(entry.getKey().getConfigKey(), entry.getValue().getStats());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,96 @@
+package com.core.common.bulkhead;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업 부류 하나의 실행 예산
+ * - max-concurrent: 동시에 실행할 수 있는 호출 수 (이 부류가 사용하는 요청 스레드와 DB 커넥션의 상한)
+ * - max-waiting: 실행 슬롯을 기다릴 수 있는 호출 수 (넘으면 바로 거절)
+ * - max-wait-millis: 실행 슬롯을 기다리는 최대 시간 (넘으면 거절)
+ */
+public class WorkloadBulkhead {
+
+    private final WorkloadClass workloadClass;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public WorkloadBulkhead(WorkloadClass workloadClass, int maxConcurrent, int maxWaiting, long maxWaitMillis) {
+        if (maxConcurrent <= 0 || maxWaiting < 0 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("작업 부류 설정이 올바르지 않습니다: " + workloadClass
+                    + " (maxConcurrent=" + maxConcurrent + ", maxWaiting=" + maxWaiting + ", maxWaitMillis=" + maxWaitMillis + ")");
+        }
+        this.workloadClass = workloadClass;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMillis = maxWaitMillis;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 실행 슬롯 획득 (완료 후 release 호출)
+     *
+     * @throws BulkheadFullException 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            accepted.increment();
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new BulkheadFullException(workloadClass,
+                    "처리 중인 " + workloadClass + " 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            timedOut.increment();
+            throw new BulkheadFullException(workloadClass,
+                    workloadClass + " 작업 대기 시간을 초과했습니다: " + maxWaitMillis + "ms");
+        }
+        accepted.increment();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 포화 통계
+     */
+    public Map<String, Object> getStats() {
+        int active = maxConcurrent - permits.availablePermits();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("active", active);
+        stats.put("waiting", waiting.get());
+        stats.put("maxWaiting", maxWaiting);
+        stats.put("saturation", (double) active / maxConcurrent);
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        return stats;
+    }
+}
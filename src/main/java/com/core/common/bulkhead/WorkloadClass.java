@@ -0,0 +1,43 @@
+package com.core.common.bulkhead;
+
+/**
+ * 작업 부류
+ * 부류마다 동시 실행 수(스레드/커넥션 예산), 대기열 크기, 대기 시간 제한을 따로 가집니다.
+ * 설정: core.bulkhead.{configKey}.max-concurrent, max-waiting, max-wait-millis
+ */
+public enum WorkloadClass {
+    // 단건 조회/등록/수정 등 사용자 응답 시간에 민감한 요청
+    INTERACTIVE("interactive", 6, 100, 1000),
+    // 주문 통계 집계 등 무거운 조회
+    ANALYTICS("analytics", 2, 10, 200),
+    // 대량 등록/수정 등 일괄 처리
+    BATCH("batch", 2, 5, 5000);
+
+    private final String configKey;
+    private final int defaultMaxConcurrent;
+    private final int defaultMaxWaiting;
+    private final long defaultMaxWaitMillis;
+
+    WorkloadClass(String configKey, int defaultMaxConcurrent, int defaultMaxWaiting, long defaultMaxWaitMillis) {
+        this.configKey = configKey;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultMaxWaiting = defaultMaxWaiting;
+        this.defaultMaxWaitMillis = defaultMaxWaitMillis;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    public int getDefaultMaxWaiting() {
+        return defaultMaxWaiting;
+    }
+
+    public long getDefaultMaxWaitMillis() {
+        return defaultMaxWaitMillis;
+    }
+}
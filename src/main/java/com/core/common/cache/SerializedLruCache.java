@@ -0,0 +1,275 @@
+package com.core.common.cache;
+
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 직렬화 저장 LRU 2차 캐시 (MyBatis Cache 구현)
+ *
+ * Mapper 인터페이스에 @CacheNamespace(implementation = SerializedLruCache.class)로 지정합니다.
+ * - statements에 지정한 문장만 캐시합니다 (그 외 SELECT는 항상 DB 조회).
+ * - 결과는 직렬화한 byte[]로 저장하여 힙 사용량을 줄이고, 조회할 때마다 새 객체로 복원합니다.
+ * - 항목 수(size)와 저장 바이트(max-bytes)를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+ * - ttl-millis가 지나면 만료되고, 같은 namespace의 INSERT/UPDATE/DELETE가 커밋되면 전체 무효화됩니다.
+ *   무효화마다 세대 번호가 올라가며, 무효화 전에 시작된 조회의 결과는 저장하지 않습니다.
+ * 다른 namespace나 다른 노드에서의 변경은 무효화되지 않으므로 TTL이 최대 지연 시간이 됩니다.
+ */
+public class SerializedLruCache implements Cache, InitializingObject {
+
+    private static final Logger log = LoggerFactory.getLogger(SerializedLruCache.class);
+
+    // namespace별 인스턴스 (MyBatis가 생성하므로 통계 조회용으로 보관)
+    private static final ConcurrentMap<String, SerializedLruCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final String id;
+
+    private boolean enabled = true;
+    private int size = 1000;
+    private long maxBytes = 16L * 1024 * 1024;
+    private long ttlMillis = 10_000;
+    private String statements = "";
+
+    private Set<String> cachedStatementIds = Collections.emptySet();
+    private long ttlNanos;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    // 무효화 세대 번호와, 스레드별 캐시 미스 당시의 세대 번호
+    // (MyBatis는 조회한 스레드에서 커밋 시 putObject를 호출함)
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadLocal<Map<Object, Long>> missGenerations = ThreadLocal.withInitial(HashMap::new);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SerializedLruCache(String id) {
+        this.id = id;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public void setTtlMillis(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 캐시할 문장 이름 (쉼표 구분, 예: count,searchUsersWithDynamicQuery)
+     */
+    public void setStatements(String statements) {
+        this.statements = statements;
+    }
+
+    @Override
+    public void initialize() {
+        if (size <= 0 || maxBytes <= 0 || ttlMillis <= 0) {
+            throw new CacheException("캐시 설정이 올바르지 않습니다: " + id
+                    + " (size=" + size + ", maxBytes=" + maxBytes + ", ttlMillis=" + ttlMillis + ")");
+        }
+        Set<String> statementIds = new HashSet<>();
+        for (String statement : statements.split(",")) {
+            if (!statement.trim().isEmpty()) {
+                statementIds.add(id + "." + statement.trim());
+            }
+        }
+        this.cachedStatementIds = statementIds;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        INSTANCES.put(id, this);
+    }
+
+    /**
+     * namespace의 캐시 인스턴스 조회
+     *
+     * @param id namespace (Mapper 인터페이스 전체 이름)
+     * @return 캐시 (해당 namespace에 이 캐시가 없으면 null)
+     */
+    public static SerializedLruCache get(String id) {
+        return INSTANCES.get(id);
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        if (!isCached(key)) {
+            return null;
+        }
+
+        byte[] data;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+                remove(key);
+                expirations.increment();
+                entry = null;
+            }
+            data = entry != null ? entry.data : null;
+        }
+
+        if (data == null) {
+            misses.increment();
+            missGenerations.get().put(key, generation.get());
+            return null;
+        }
+        hits.increment();
+        return deserialize(data);
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        Long missGeneration = missGenerations.get().remove(key);
+        if (value == null || missGeneration == null || missGeneration != generation.get() || !isCached(key)) {
+            return;
+        }
+
+        byte[] data = serialize(value);
+        if (data == null || data.length > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            // 직렬화하는 동안 무효화되었으면 저장하지 않음
+            if (missGeneration != generation.get()) {
+                return;
+            }
+            remove(key);
+            entries.put(key, new Entry(data, System.nanoTime() + ttlNanos));
+            bytes += data.length;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > size || bytes > maxBytes) && eldest.hasNext()) {
+                bytes -= eldest.next().data.length;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        // 조회가 롤백된 경우 호출됨 (미스 기록만 정리)
+        missGenerations.get().remove(key);
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+            bytes = 0;
+        }
+        invalidations.increment();
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+            stats.put("bytes", bytes);
+        }
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("statements", cachedStatementIds.size());
+        return stats;
+    }
+
+    /**
+     * 캐시 대상 문장인지 확인
+     * CacheKey 문자열은 "hashcode:checksum:문장ID:offset:limit:SQL:파라미터..." 형식입니다.
+     */
+    private boolean isCached(Object key) {
+        if (!enabled || cachedStatementIds.isEmpty()) {
+            return false;
+        }
+        String[] parts = key.toString().split(":", 4);
+        return parts.length >= 3 && cachedStatementIds.contains(parts[2]);
+    }
+
+    private void remove(Object key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.data.length;
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            log.debug("직렬화할 수 없는 결과는 캐시하지 않습니다: {}", id, e);
+            return null;
+        }
+        return buffer.toByteArray();
+    }
+
+    private Object deserialize(byte[] data) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("캐시 항목을 복원할 수 없습니다: " + id, e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] data;
+        private final long expiresAt;
+
+        private Entry(byte[] data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
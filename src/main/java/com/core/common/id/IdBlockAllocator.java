@@ -0,0 +1,158 @@
+package com.core.common.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블록 단위 ID 할당기 (hi/lo)
+ *
+ * - id_sequences 테이블에서 UPDATE 한 문장으로 block-size개의 ID 블록을 예약합니다.
+ *   행 잠금으로 원자적으로 증가하므로 여러 애플리케이션 노드에서 써도 ID가 겹치지 않습니다.
+ * - 블록 안에서는 AtomicLong.getAndIncrement로 잠금 없이 ID를 나눠 줍니다.
+ * - 블록이 prefetch-ratio만큼 남으면 다음 블록을 백그라운드로 미리 예약해, 블록 경계에서도 DB를 기다리지 않습니다.
+ * 노드 재시작 시 쓰지 않은 블록의 나머지는 버려지므로 ID에 빈 구간이 생길 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.id-allocator", name = "enabled", havingValue = "true")
+public class IdBlockAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(IdBlockAllocator.class);
+
+    private final IdSequenceService idSequenceService;
+    private final int blockSize;
+    private final int prefetchRemaining;
+
+    private final ConcurrentMap<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "id-block-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IdBlockAllocator(IdSequenceService idSequenceService,
+                            @Value("${core.id-allocator.block-size:1000}") int blockSize,
+                            @Value("${core.id-allocator.prefetch-ratio:0.2}") double prefetchRatio) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("ID 블록 크기는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.idSequenceService = idSequenceService;
+        this.blockSize = blockSize;
+        this.prefetchRemaining = Math.max(1, (int) (blockSize * prefetchRatio));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 다음 ID 할당
+     *
+     * @param name 시퀀스 이름 (id_sequences.name)
+     * @return long 새 ID
+     */
+    public long nextId(String name) {
+        Sequence sequence = sequences.computeIfAbsent(name, Sequence::new);
+        for (;;) {
+            Block block = sequence.current;
+            long id = block.next.getAndIncrement();
+            if (id < block.end) {
+                // 정확히 한 스레드만 prefetchAt을 받으므로 prefetch는 블록당 한 번만 시작됨
+                if (id == block.prefetchAt) {
+                    startPrefetch(sequence);
+                }
+                return id;
+            }
+            advance(sequence, block);
+        }
+    }
+
+    /**
+     * ID 여러 개 할당 (대량 등록용)
+     *
+     * @param name 시퀀스 이름
+     * @param count 할당할 개수
+     * @return long[] 새 ID 배열 (오름차순, 블록 경계에서는 연속되지 않을 수 있음)
+     */
+    public long[] nextIds(String name, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId(name);
+        }
+        return ids;
+    }
+
+    /**
+     * 현재 블록이 소진되었을 때 다음 블록으로 교체 (prefetch된 블록이 있으면 그것을 사용)
+     */
+    private void advance(Sequence sequence, Block exhausted) {
+        synchronized (sequence) {
+            if (sequence.current != exhausted) {
+                return;
+            }
+            CompletableFuture<Block> prefetched = sequence.prefetch;
+            sequence.prefetch = null;
+
+            Block next = null;
+            if (prefetched != null) {
+                try {
+                    next = prefetched.join();
+                } catch (CompletionException e) {
+                    log.warn("ID 블록 prefetch 실패, 동기 예약으로 재시도: {}", sequence.name, e.getCause());
+                }
+            }
+            sequence.current = next != null ? next : reserve(sequence.name);
+        }
+    }
+
+    private void startPrefetch(Sequence sequence) {
+        synchronized (sequence) {
+            if (sequence.prefetch == null) {
+                sequence.prefetch = CompletableFuture.supplyAsync(() -> reserve(sequence.name), prefetchExecutor);
+            }
+        }
+    }
+
+    private Block reserve(String name) {
+        long end = idSequenceService.reserveBlock(name, blockSize);
+        return new Block(end - blockSize, end, end - prefetchRemaining);
+    }
+
+    private static final class Sequence {
+        private final String name;
+        // 초기에는 빈 블록이므로 첫 nextId에서 예약됨
+        private volatile Block current = Block.EMPTY;
+        private CompletableFuture<Block> prefetch;
+
+        private Sequence(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Block {
+        private static final Block EMPTY = new Block(0, 0, -1);
+
+        private final long end;
+        private final long prefetchAt;
+        private final AtomicLong next;
+
+        private Block(long start, long end, long prefetchAt) {
+            this.end = end;
+            this.prefetchAt = prefetchAt;
+            this.next = new AtomicLong(start);
+        }
+    }
+}
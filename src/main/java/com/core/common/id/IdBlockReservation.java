@@ -0,0 +1,41 @@
+package com.core.common.id;
+
+/**
+ * ID 블록 예약 파라미터/결과
+ * 예약 UPDATE 실행 후 end에 블록의 끝(미포함)이 설정됩니다. 블록은 [end - blockSize, end) 입니다.
+ */
+public class IdBlockReservation {
+    private final String name;
+    private final int blockSize;
+    private Long end;
+
+    public IdBlockReservation(String name, int blockSize) {
+        this.name = name;
+        this.blockSize = blockSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public Long getEnd() {
+        return end;
+    }
+
+    public void setEnd(Long end) {
+        this.end = end;
+    }
+
+    @Override
+    public String toString() {
+        return "IdBlockReservation{" +
+                "name='" + name + '\'' +
+                ", blockSize=" + blockSize +
+                ", end=" + end +
+                '}';
+    }
+}
@@ -0,0 +1,23 @@
+package com.core.common.id;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.SelectKey;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * ID 시퀀스 테이블(id_sequences) Repository
+ */
+@Mapper
+public interface IdSequenceRepository {
+
+    /**
+     * ID 블록 예약
+     * 예약 UPDATE 후 같은 커넥션의 LAST_INSERT_ID()로 블록 끝 값을 reservation.end에 설정합니다.
+     *
+     * @param reservation 시퀀스 이름과 블록 크기
+     * @return int 영향을 받은 행 수 (0: 시퀀스 없음)
+     */
+    @UpdateProvider(type = IdSequenceSqlProvider.class, method = "reserveBlock")
+    @SelectKey(statement = "SELECT LAST_INSERT_ID()", keyProperty = "end", before = false, resultType = Long.class)
+    int reserveBlock(IdBlockReservation reservation);
+}
@@ -0,0 +1,37 @@
+package com.core.common.id;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ID 시퀀스 서비스
+ * 블록 예약은 호출 측 트랜잭션과 분리(REQUIRES_NEW)해 바로 커밋합니다.
+ * 호출 측이 롤백해도 예약이 되돌려지지 않아야 다른 노드와 같은 블록을 받지 않습니다.
+ */
+@Service
+public class IdSequenceService {
+
+    private final IdSequenceRepository idSequenceRepository;
+
+    public IdSequenceService(IdSequenceRepository idSequenceRepository) {
+        this.idSequenceRepository = idSequenceRepository;
+    }
+
+    /**
+     * ID 블록 예약
+     *
+     * @param name 시퀀스 이름
+     * @param blockSize 블록 크기
+     * @return long 블록의 끝 (미포함), 블록은 [end - blockSize, end)
+     * @throws IllegalStateException 시퀀스가 등록되어 있지 않은 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(String name, int blockSize) {
+        IdBlockReservation reservation = new IdBlockReservation(name, blockSize);
+        if (idSequenceRepository.reserveBlock(reservation) == 0 || reservation.getEnd() == null) {
+            throw new IllegalStateException("등록되지 않은 ID 시퀀스입니다: " + name);
+        }
+        return reservation.getEnd();
+    }
+}
@@ -0,0 +1,22 @@
+package com.core.common.id;
+
+import org.apache.ibatis.jdbc.SQL;
+
+/**
+ * IdSequenceRepository를 위한 SQL Builder Provider
+ */
+public class IdSequenceSqlProvider {
+
+    /**
+     * ID 블록 예약
+     * next_value를 blockSize만큼 올리면서 LAST_INSERT_ID(expr)로 새 값을 세션에 남깁니다.
+     * 행 잠금으로 원자적으로 증가하므로 여러 노드가 동시에 예약해도 블록이 겹치지 않습니다.
+     */
+    public String reserveBlock() {
+        return new SQL() {{
+            UPDATE("id_sequences");
+            SET("next_value = LAST_INSERT_ID(next_value + #{blockSize})");
+            WHERE("name = #{name}");
+        }}.toString();
+    }
+}
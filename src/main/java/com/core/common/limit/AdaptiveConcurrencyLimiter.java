@@ -0,0 +1,125 @@
+package com.core.common.limit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 기반 적응형 동시 실행 제한 (AIMD)
+ *
+ * 동시에 처리 중인 요청 수를 limit 이하로 제한하고, 완료된 요청의 지연 시간으로 limit을 조정합니다.
+ * - 지연 시간이 latency-threshold를 넘으면 과부하로 보고 limit을 backoff-ratio 배로 줄입니다.
+ *   마지막 감소 이후에 시작된 요청이 느릴 때만 줄이므로, 한 번의 지연으로 연속해서 줄어들지 않습니다.
+ * - 빠르게 완료되고 limit의 절반 이상을 사용 중이면 limit을 조금씩(요청마다 1/limit) 늘립니다.
+ * limit을 넘는 요청은 대기하지 않고 바로 거절하여, 큐에 쌓여 시간 초과되는 대신 처리량을 유지합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // limit 조정 상태 (synchronized로 보호)
+    private double estimatedLimit;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, long latencyThresholdMillis) {
+        if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 실행 제한 범위가 올바르지 않습니다: initial=" + initialLimit
+                    + ", min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoff-ratio는 0과 1 사이여야 합니다: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * 실행 허가 요청 (대기하지 않음)
+     *
+     * @return 허가 여부 (true이면 완료 후 반드시 release 호출)
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 실행 완료 (지연 시간으로 limit 조정)
+     *
+     * @param startNanos 요청 시작 시각 (System.nanoTime)
+     */
+    public void release(long startNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        long latencyNanos = System.nanoTime() - startNanos;
+        if (latencyNanos > latencyThresholdNanos) {
+            slow.increment();
+        }
+        onSample(startNanos, latencyNanos, inFlightAtCompletion);
+    }
+
+    /**
+     * 지연 시간을 반영하지 않고 실행 완료 (예외 등으로 지연 시간이 의미 없는 경우)
+     */
+    public void releaseIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long startNanos, long latencyNanos, int inFlightAtCompletion) {
+        if (latencyNanos > latencyThresholdNanos) {
+            if (startNanos - lastDecreaseNanos > 0) {
+                estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+                lastDecreaseNanos = System.nanoTime();
+            }
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + 1.0 / estimatedLimit);
+        }
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 제한 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", limit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("slow", slow.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,18 @@
+package com.core.common.startup;
+
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 레거시 Mapper(com.core.mapper) 등록
+ * 레거시 UserService/UserController는 컴포넌트 스캔에서 제외되어 있어 이 Mapper들을 쓰는 빈이 없습니다.
+ * core.startup.legacy-mappers=false이면 등록하지 않으므로, UserSqlBuilderMapper의 큰 &lt;script&gt; 어노테이션도 파싱하지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "core.startup", name = "legacy-mappers", havingValue = "true", matchIfMissing = true)
+@MapperScan(basePackages = "com.core.mapper",
+        factoryBean = ProfiledMapperFactoryBean.class,
+        lazyInitialization = "${spring.main.lazy-initialization:false}")
+public class LegacyMapperConfiguration {
+}
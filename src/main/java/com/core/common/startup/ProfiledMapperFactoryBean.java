@@ -0,0 +1,114 @@
+package com.core.common.startup;
+
+import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.session.Configuration;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mapper 파싱 시간을 기록하는 MapperFactoryBean
+ *
+ * MyBatis는 Mapper 빈이 초기화될 때(checkDaoConfig) 인터페이스의 어노테이션과 &lt;script&gt;를 모두 파싱합니다.
+ * 빈 생성 시간에는 파싱 외의 의존 빈 생성 시간도 섞이므로, 파싱 구간만 따로 재서 보관합니다.
+ *
+ * 지연 초기화 빈이면 파싱을 처음 getObject(첫 주입) 때로 미룹니다.
+ * (Spring이 타입 확인을 위해 FactoryBean 자체를 먼저 생성하므로, 초기화 시점에 파싱하면 지연 초기화여도 기동 시 파싱됨)
+ */
+public class ProfiledMapperFactoryBean<T> extends MapperFactoryBean<T> implements BeanFactoryAware, BeanNameAware {
+
+    // Mapper 인터페이스 이름 → 파싱 시간 (MyBatis 스캐너가 생성하므로 정적으로 보관)
+    private static final ConcurrentMap<String, Long> PARSE_NANOS = new ConcurrentHashMap<>();
+
+    private BeanFactory beanFactory;
+    private String beanName;
+    private volatile boolean parsePending;
+
+    public ProfiledMapperFactoryBean() {
+    }
+
+    public ProfiledMapperFactoryBean(Class<T> mapperInterface) {
+        super(mapperInterface);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setBeanName(String beanName) {
+        this.beanName = beanName;
+    }
+
+    @Override
+    protected void checkDaoConfig() {
+        if (isAddToConfig() && isLazyInit()) {
+            setAddToConfig(false);
+            super.checkDaoConfig();
+            setAddToConfig(true);
+            parsePending = true;
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        super.checkDaoConfig();
+        PARSE_NANOS.put(getMapperInterface().getName(), System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public T getObject() throws Exception {
+        if (parsePending) {
+            parse();
+        }
+        return super.getObject();
+    }
+
+    /**
+     * 지연된 Mapper 파싱 (MyBatis Configuration은 동시 등록에 안전하지 않으므로 Configuration 단위로 동기화)
+     */
+    private void parse() {
+        Configuration configuration = getSqlSession().getConfiguration();
+        synchronized (configuration) {
+            if (!parsePending) {
+                return;
+            }
+            if (!configuration.hasMapper(getMapperInterface())) {
+                long startNanos = System.nanoTime();
+                try {
+                    configuration.addMapper(getMapperInterface());
+                } finally {
+                    ErrorContext.instance().reset();
+                }
+                PARSE_NANOS.put(getMapperInterface().getName(), System.nanoTime() - startNanos);
+            }
+            parsePending = false;
+        }
+    }
+
+    private boolean isLazyInit() {
+        if (!(beanFactory instanceof ConfigurableListableBeanFactory) || beanName == null) {
+            return false;
+        }
+        ConfigurableListableBeanFactory listableBeanFactory = (ConfigurableListableBeanFactory) beanFactory;
+        return listableBeanFactory.containsBeanDefinition(beanName)
+                && listableBeanFactory.getBeanDefinition(beanName).isLazyInit();
+    }
+
+    /**
+     * 지금까지 파싱된 Mapper별 파싱 시간
+     *
+     * @return Map&lt;String, Long&gt; Mapper 인터페이스 이름 → 파싱 시간(ns)
+     */
+    public static Map<String, Long> getParseNanos() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(PARSE_NANOS));
+    }
+}
@@ -0,0 +1,28 @@
+package com.core.common.startup;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 지연 초기화 모드 (spring.main.lazy-initialization=true, lazy 프로필)
+ * 대부분의 빈은 처음 사용할 때 생성하되, 설정 오류를 기동 시점에 알 수 있도록
+ * DB 연결 관련 빈(DataSource, SqlSessionFactory, 트랜잭션 매니저)은 기동 시 생성합니다.
+ * Mapper 파싱과 서비스/컨트롤러 생성은 첫 요청으로 미뤄지므로, 필요하면 웜업(core.user.warm-up)으로 준비 상태 전에 실행합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "spring.main", name = "lazy-initialization", havingValue = "true")
+public class StartupLazyInitializationConfiguration {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, SqlSessionFactory.class,
+                SqlSessionTemplate.class, PlatformTransactionManager.class);
+    }
+}
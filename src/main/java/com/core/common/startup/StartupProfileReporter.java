@@ -0,0 +1,118 @@
+package com.core.common.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시간 프로파일 리포트
+ *
+ * 준비 완료(ApplicationReadyEvent) 시점에 다음을 로그로 출력합니다.
+ * - 빈별 생성 시간 (상위 top개, 의존 빈 생성 시간을 뺀 자체 시간 포함)
+ * - Mapper별 MyBatis 파싱 시간 (ProfiledMapperFactoryBean)
+ * 빈별 시간은 BufferingApplicationStartup이 필요하므로, 컨텍스트 생성 전에 알 수 있도록
+ * 시스템 프로퍼티(-Dcore.startup.profiling.enabled=true) 또는 환경 변수(CORE_STARTUP_PROFILING_ENABLED=true)로 켭니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.startup.profiling", name = "enabled", havingValue = "true")
+public class StartupProfileReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupProfileReporter.class);
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+    private static final int BUFFER_CAPACITY = 10_000;
+
+    private final int top;
+
+    public StartupProfileReporter(@Value("${core.startup.profiling.top:30}") int top) {
+        this.top = top;
+    }
+
+    /**
+     * 프로파일링이 켜져 있으면 빈 생성 단계를 기록하는 ApplicationStartup, 아니면 기본값
+     * (SpringApplication.run 전에 호출하므로 Environment 대신 시스템 프로퍼티/환경 변수를 확인)
+     */
+    public static ApplicationStartup applicationStartup() {
+        String enabled = System.getProperty("core.startup.profiling.enabled",
+                System.getenv("CORE_STARTUP_PROFILING_ENABLED"));
+        return Boolean.parseBoolean(enabled)
+                ? new BufferingApplicationStartup(BUFFER_CAPACITY)
+                : ApplicationStartup.DEFAULT;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup) {
+            logBeanTimes(((BufferingApplicationStartup) startup).getBufferedTimeline());
+        } else {
+            log.info("빈별 생성 시간은 -Dcore.startup.profiling.enabled=true로 기동해야 기록됩니다");
+        }
+        logMapperParseTimes();
+    }
+
+    private void logBeanTimes(StartupTimeline timeline) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        // 부모 단계별 자식 단계 시간 합 (자체 시간 = 전체 - 자식 합)
+        Map<Long, Long> childNanos = new HashMap<>();
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (step.getParentId() != null) {
+                childNanos.merge(step.getParentId(), event.getDuration().toNanos(), Long::sum);
+            }
+            if (BEAN_INSTANTIATE_STEP.equals(step.getName())) {
+                beans.add(event);
+            }
+        }
+        beans.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed());
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("기동 프로파일: 빈 %d개 생성 (상위 %d개, 전체/자체 ms)%n",
+                beans.size(), Math.min(top, beans.size())));
+        for (StartupTimeline.TimelineEvent event : beans.subList(0, Math.min(top, beans.size()))) {
+            long totalNanos = event.getDuration().toNanos();
+            long selfNanos = totalNanos - childNanos.getOrDefault(event.getStartupStep().getId(), 0L);
+            report.append(String.format("  %8.1f %8.1f  %s%n",
+                    totalNanos / 1e6, selfNanos / 1e6, beanName(event.getStartupStep())));
+        }
+        if (events.size() >= BUFFER_CAPACITY) {
+            report.append("  (기록 버퍼가 가득 차 일부 단계가 누락되었습니다)").append(System.lineSeparator());
+        }
+        log.info(report.toString().trim());
+    }
+
+    private void logMapperParseTimes() {
+        Map<String, Long> parseNanos = ProfiledMapperFactoryBean.getParseNanos();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("기동 프로파일: Mapper %d개 파싱 (ms)%n", parseNanos.size()));
+        parseNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> report.append(String.format("  %8.1f  %s%n", entry.getValue() / 1e6, entry.getKey())));
+        log.info(report.toString().trim());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
@@ -0,0 +1,274 @@
+package com.core.common.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 정렬 배열 기반 접두어 인덱스 (불변)
+ *
+ * 문자열을 UTF-8 바이트로 이어 붙인 byte[] 하나와 시작 위치 int[] 하나로 저장합니다.
+ * (Java 8 String은 char[] + 객체 헤더로 항목당 50바이트 이상이 더 들지만, 여기서는 항목당 길이 + 4바이트)
+ * ASCII 대소문자를 구분하지 않는 순서(ORDER)로 정렬되어 있어, 접두어 검색은 이진 탐색 한 번 + 일치 구간 순차 조회입니다.
+ * 대소문자만 다른 값은 원래 바이트 순서로 이어서 정렬되며, 결과는 원래 대소문자 그대로 반환합니다.
+ */
+public final class SortedPrefixIndex {
+
+    private static final SortedPrefixIndex EMPTY = new SortedPrefixIndex(new byte[0], new int[]{0});
+
+    // 배열/객체 헤더 추정치 (메모리 사용량 보고용)
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int OBJECT_HEADER_BYTES = 16;
+
+    /**
+     * 인덱스와 같은 정렬 순서 (ASCII 대소문자 무시, 같으면 원래 코드 포인트 순서)
+     * UTF-8 바이트 순서는 코드 포인트 순서와 같으므로 인덱스 내부 바이트 비교와 일치합니다.
+     */
+    public static final Comparator<String> ORDER = SortedPrefixIndex::compareStrings;
+
+    private final byte[] bytes;
+    private final int[] offsets;
+
+    private SortedPrefixIndex(byte[] bytes, int[] offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+    }
+
+    public static SortedPrefixIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 인덱스 생성 (순서 무관, 중복은 하나만 저장, null/빈 문자열 제외)
+     */
+    public static SortedPrefixIndex of(Collection<String> values) {
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        for (String value : values) {
+            if (value != null && !value.isEmpty()) {
+                encoded.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        encoded.sort(SortedPrefixIndex::compareBytes);
+
+        int totalBytes = 0;
+        int count = 0;
+        for (int i = 0; i < encoded.size(); i++) {
+            if (i == 0 || compareBytes(encoded.get(i - 1), encoded.get(i)) != 0) {
+                encoded.set(count++, encoded.get(i));
+                totalBytes += encoded.get(i).length;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        byte[] bytes = new byte[totalBytes];
+        int[] offsets = new int[count + 1];
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] value = encoded.get(i);
+            offsets[i] = position;
+            System.arraycopy(value, 0, bytes, position, value.length);
+            position += value.length;
+        }
+        offsets[count] = position;
+        return new SortedPrefixIndex(bytes, offsets);
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * 값이 있는지 확인 (대소문자 구분)
+     */
+    public boolean contains(String value) {
+        byte[] key = value.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, key, false);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 접두어로 시작하는 값 조회 (ASCII 대소문자 무시, ORDER 순서)
+     *
+     * @param prefix 접두어
+     * @param limit 최대 개수
+     * @param filter 포함할 값만 true (제외된 값은 개수에 포함되지 않음)
+     * @return List&lt;String&gt; 일치하는 값 (최대 limit개)
+     */
+    public List<String> startingWith(String prefix, int limit, Predicate<String> filter) {
+        byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(key); i < size() && matches.size() < limit && startsWith(i, key); i++) {
+            String value = get(i);
+            if (filter.test(value)) {
+                matches.add(value);
+            }
+        }
+        return matches;
+    }
+
+    public String get(int index) {
+        return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 모든 값 (ORDER 순서, 재구성용)
+     */
+    public List<String> values() {
+        List<String> values = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            values.add(get(i));
+        }
+        return values;
+    }
+
+    /**
+     * 추정 메모리 사용량 (바이트)
+     */
+    public long memoryBytes() {
+        return OBJECT_HEADER_BYTES
+                + ARRAY_HEADER_BYTES + bytes.length
+                + ARRAY_HEADER_BYTES + (long) offsets.length * Integer.BYTES;
+    }
+
+    /**
+     * 대소문자를 무시하고 접두어 이상인 첫 위치
+     * (정렬 순서의 1차 기준이 대소문자 무시 비교이므로 이진 탐색 가능)
+     */
+    private int lowerBound(byte[] prefix) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix, true) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean startsWith(int index, byte[] prefix) {
+        int start = offsets[index];
+        if (offsets[index + 1] - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (fold(bytes[start + i]) != fold(prefix[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compare(int index, byte[] key, boolean foldedOnly) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int folded = compareFolded(bytes, start, length, key, 0, key.length);
+        if (folded != 0 || foldedOnly) {
+            return folded;
+        }
+        return compareRaw(bytes, start, length, key, 0, key.length);
+    }
+
+    private static int compareBytes(byte[] a, byte[] b) {
+        int folded = compareFolded(a, 0, a.length, b, 0, b.length);
+        return folded != 0 ? folded : compareRaw(a, 0, a.length, b, 0, b.length);
+    }
+
+    private static int compareFolded(byte[] a, int aStart, int aLength, byte[] b, int bStart, int bLength) {
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int cmp = fold(a[aStart + i]) - fold(b[bStart + i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    private static int compareRaw(byte[] a, int aStart, int aLength, byte[] b, int bStart, int bLength) {
+        int length = Math.min(aLength, bLength);
+        for (int i = 0; i < length; i++) {
+            int cmp = (a[aStart + i] & 0xff) - (b[bStart + i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    private static int compareStrings(String a, String b) {
+        int folded = compareFoldedStrings(a, b);
+        if (folded != 0) {
+            return folded;
+        }
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; ) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(i);
+            if (ca != cb) {
+                return ca - cb;
+            }
+            i += Character.charCount(ca);
+        }
+        return a.length() - b.length();
+    }
+
+    private static int compareFoldedStrings(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            int cmp = fold(ca) - fold(cb);
+            if (cmp != 0) {
+                return cmp;
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return (a.length() - i) - (b.length() - j);
+    }
+
+    /**
+     * 대소문자를 무시하고 prefix로 시작하는지 확인 (ORDER와 같은 기준)
+     */
+    public static boolean startsWithIgnoreCase(String value, String prefix) {
+        if (value.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (fold((int) value.charAt(i)) != fold((int) prefix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fold(byte value) {
+        int b = value & 0xff;
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+
+    private static int fold(int codePoint) {
+        return codePoint >= 'A' && codePoint <= 'Z' ? codePoint + ('a' - 'A') : codePoint;
+    }
+}
@@ -0,0 +1,105 @@
+package com.core.common.time;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime 고속 문자열 변환기
+ * DateTimeFormatter.ISO_LOCAL_DATE_TIME과 동일한 결과를 스레드별 재사용 char 버퍼에 직접 기록합니다.
+ * - 범용 포매터의 파싱 컨텍스트/StringBuilder 할당이 없음
+ * - 같은 페이지의 사용자들은 생성 시각(초 단위)이 겹치는 경우가 많으므로,
+ *   직전에 변환한 초 단위 값과 같으면 이전 문자열을 그대로 재사용
+ */
+public final class IsoDateTimeWriter {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+    private static final int SECONDS_LENGTH = 19;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private IsoDateTimeWriter() {
+    }
+
+    /**
+     * ISO-8601 형식 문자열로 변환 (예: 2024-01-15T10:30:00, 2024-01-15T10:30:00.123)
+     */
+    public static String format(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            // 4자리를 벗어나는 연도는 부호/자릿수 규칙이 달라 범용 포매터에 위임
+            return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+
+        int nano = dateTime.getNano();
+        long key = ((((year * 13L + dateTime.getMonthValue()) * 32 + dateTime.getDayOfMonth()) * 24
+                + dateTime.getHour()) * 60 + dateTime.getMinute()) * 60 + dateTime.getSecond();
+
+        Buffer buffer = BUFFER.get();
+        if (nano == 0 && key == buffer.lastKey) {
+            return buffer.lastText;
+        }
+
+        char[] chars = buffer.chars;
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, dateTime.getMinute(), 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, dateTime.getSecond(), 2);
+
+        int length = SECONDS_LENGTH;
+        if (nano > 0) {
+            // 소수점 이하는 뒤쪽 0을 제거 (ISO_LOCAL_TIME의 fraction 규칙과 동일)
+            chars[SECONDS_LENGTH] = '.';
+            writeDigits(chars, SECONDS_LENGTH + 1, nano, 9);
+            length = MAX_LENGTH;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+
+        String text = new String(chars, 0, length);
+        if (nano == 0) {
+            buffer.lastKey = key;
+            buffer.lastText = text;
+        }
+        return text;
+    }
+
+    /**
+     * 시스템 기본 시간대 기준 epoch millis로 변환
+     */
+    public static Long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void writeDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * 스레드별 버퍼와 직전 변환 결과
+     */
+    private static final class Buffer {
+        private final char[] chars = new char[MAX_LENGTH];
+        private long lastKey = -1;
+        private String lastText;
+    }
+}
@@ -0,0 +1,67 @@
+package com.core.common.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.servlet.Servlet;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRegistration;
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * 빌드 시 미리 컴파일된 JSP 서블릿 등록
+ *
+ * WAR 빌드(generateJspServlets)가 만든 META-INF/precompiled-jsp.properties의 JSP 경로마다
+ * 컴파일된 서블릿을 정확한 경로 매핑으로 등록합니다.
+ * - 정확한 경로 매핑이 *.jsp 매핑(JspServlet)보다 우선하므로 런타임에 JSP를 컴파일하지 않습니다.
+ * - load-on-startup으로 시작 시 초기화하여 첫 요청도 평상시와 같은 지연 시간으로 처리합니다.
+ * 매핑 파일이 없으면(bootRun 등 개발 실행) 아무것도 등록하지 않고 기존처럼 JspServlet이 처리합니다.
+ */
+@Component
+public class PrecompiledJspRegistrar implements ServletContextInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(PrecompiledJspRegistrar.class);
+
+    static final String MAPPINGS_RESOURCE = "META-INF/precompiled-jsp.properties";
+
+    @Override
+    public void onStartup(ServletContext servletContext) throws ServletException {
+        ClassPathResource resource = new ClassPathResource(MAPPINGS_RESOURCE);
+        if (!resource.exists()) {
+            return;
+        }
+
+        Properties mappings;
+        try {
+            mappings = PropertiesLoaderUtils.loadProperties(resource);
+        } catch (IOException e) {
+            throw new ServletException("미리 컴파일된 JSP 매핑을 읽을 수 없습니다: " + MAPPINGS_RESOURCE, e);
+        }
+
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        for (String jspPath : mappings.stringPropertyNames()) {
+            String className = mappings.getProperty(jspPath);
+            Class<? extends Servlet> servletClass;
+            try {
+                servletClass = ClassUtils.forName(className, classLoader).asSubclass(Servlet.class);
+            } catch (ClassNotFoundException | LinkageError e) {
+                throw new ServletException("미리 컴파일된 JSP 서블릿을 찾을 수 없습니다: " + className, e);
+            }
+
+            ServletRegistration.Dynamic registration = servletContext.addServlet(className, servletClass);
+            if (registration == null) {
+                continue;
+            }
+            registration.addMapping(jspPath);
+            registration.setLoadOnStartup(1);
+        }
+        log.info("미리 컴파일된 JSP {}개 등록", mappings.size());
+    }
+}
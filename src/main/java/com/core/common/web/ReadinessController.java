@@ -0,0 +1,62 @@
+package com.core.common.web;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상태 확인 API (로드밸런서, 쿠버네티스 probe용)
+ * Spring Boot는 ApplicationRunner(웜업 포함)가 모두 끝난 뒤에 ReadinessState.ACCEPTING_TRAFFIC을 발행하므로
+ * 준비 상태는 웜업이 끝나야 200이 됩니다.
+ */
+@RestController
+@RequestMapping("/api/v1/health")
+public class ReadinessController {
+
+    private final ApplicationAvailability availability;
+
+    public ReadinessController(ApplicationAvailability availability) {
+        this.availability = availability;
+    }
+
+    /**
+     * 준비 상태 (트래픽 수신 가능 여부)
+     * GET /api/v1/health/readiness
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        ReadinessState state = availability.getReadinessState();
+        return stateResponse(state == ReadinessState.ACCEPTING_TRAFFIC, state);
+    }
+
+    /**
+     * 생존 상태
+     * GET /api/v1/health/liveness
+     */
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, Object>> liveness() {
+        LivenessState state = availability.getLivenessState();
+        return stateResponse(state == LivenessState.CORRECT, state);
+    }
+
+    private ResponseEntity<Map<String, Object>> stateResponse(boolean up, Enum<?> state) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", up);
+        response.put("status", state.name());
+        if (up) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+}
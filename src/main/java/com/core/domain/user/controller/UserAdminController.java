@@ -0,0 +1,265 @@
+package com.core.domain.user.controller;
+
+import com.core.common.bulkhead.BulkheadRegistry;
+import com.core.common.cache.SerializedLruCache;
+import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.service.UserBulkDeleteJob;
+import com.core.domain.user.repository.UserRepository;
+import com.core.domain.user.service.UserBulkDeleteJobManager;
+import com.core.domain.user.service.UserQueryCoalescer;
+import com.core.domain.user.service.UserSearchAdmission;
+import com.core.domain.user.service.UserSuggestIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 관리자 REST API 컨트롤러
+ * 대량 삭제 같은 운영용 작업을 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/users")
+public class UserAdminController {
+
+    private final UserBulkDeleteJobManager bulkDeleteJobManager;
+    private final UserQueryCoalescer queryCoalescer;
+    private final UserSearchAdmission searchAdmission;
+    private final UserApiConcurrencyLimitFilter concurrencyLimitFilter;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final UserSuggestIndex suggestIndex;
+
+    public UserAdminController(UserBulkDeleteJobManager bulkDeleteJobManager,
+                               ObjectProvider<UserQueryCoalescer> queryCoalescerProvider,
+                               ObjectProvider<UserSearchAdmission> searchAdmissionProvider,
+                               ObjectProvider<UserApiConcurrencyLimitFilter> concurrencyLimitFilterProvider,
+                               ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider,
+                               ObjectProvider<UserSuggestIndex> suggestIndexProvider) {
+        this.bulkDeleteJobManager = bulkDeleteJobManager;
+        this.queryCoalescer = queryCoalescerProvider.getIfAvailable();
+        this.searchAdmission = searchAdmissionProvider.getIfAvailable();
+        this.concurrencyLimitFilter = concurrencyLimitFilterProvider.getIfAvailable();
+        this.bulkheadRegistry = bulkheadRegistryProvider.getIfAvailable();
+        this.suggestIndex = suggestIndexProvider.getIfAvailable();
+    }
+
+    /**
+     * 대량 삭제 작업 등록
+     * POST /api/v1/admin/users/bulk-delete
+     *
+     * @param request 삭제 조건 DTO (ids, startDate/endDate, userStatus 중 하나 이상)
+     * @return ResponseEntity 등록된 작업
+     *         성공 시 (202):
+     *         - success: true
+     *         - job: 작업 상태 (jobId, status, 진행 상황)
+     *         실패 시 (400):
+     *         - success: false
+     *         - error: 에러 메시지 (삭제 조건 없음)
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<Map<String, Object>> submitBulkDelete(@RequestBody UserRequestDto.BulkDelete request) {
+        try {
+            UserBulkDeleteJob job = bulkDeleteJobManager.submit(request);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("job", job);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    /**
+     * 대량 삭제 작업 목록
+     * GET /api/v1/admin/users/bulk-delete
+     *
+     * @return ResponseEntity 작업 목록 (최근 등록 순)
+     *         - jobs: 작업 상태 리스트
+     *         - success: true
+     */
+    @GetMapping("/bulk-delete")
+    public ResponseEntity<Map<String, Object>> getBulkDeleteJobs() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobs", bulkDeleteJobManager.getJobs());
+        response.put("success", true);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 대량 삭제 작업 진행 상황 조회
+     * GET /api/v1/admin/users/bulk-delete/{jobId}
+     *
+     * @param jobId 작업 ID
+     * @return ResponseEntity 작업 상태 또는 에러 메시지 (404)
+     */
+    @GetMapping("/bulk-delete/{jobId}")
+    public ResponseEntity<Map<String, Object>> getBulkDeleteJob(@PathVariable long jobId) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("job", bulkDeleteJobManager.getJob(jobId));
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 대량 삭제 작업 취소
+     * DELETE /api/v1/admin/users/bulk-delete/{jobId}
+     * 진행 중인 청크는 커밋되고, 다음 청크부터 중단됩니다.
+     *
+     * @param jobId 작업 ID
+     * @return ResponseEntity 취소 결과
+     *         성공 시 (200):
+     *         - success: true
+     *         - cancelled: 취소 요청 반영 여부 (이미 끝난 작업이면 false)
+     *         - job: 작업 상태
+     *         실패 시 (404):
+     *         - success: false
+     *         - error: 에러 메시지
+     */
+    @DeleteMapping("/bulk-delete/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelBulkDelete(@PathVariable long jobId) {
+        try {
+            boolean cancelled = bulkDeleteJobManager.cancel(jobId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("cancelled", cancelled);
+            response.put("job", bulkDeleteJobManager.getJob(jobId));
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    /**
+     * 조회 요청 병합 통계
+     * GET /api/v1/admin/users/coalescing
+     *
+     * @return ResponseEntity 병합 통계
+     *         - enabled: 요청 병합 사용 여부 (core.user.coalescing.enabled)
+     *         - stats: search/count별 executions(실제 DB 조회 수), saved(생략된 DB 조회 수), inFlight
+     */
+    @GetMapping("/coalescing")
+    public ResponseEntity<Map<String, Object>> getCoalescingStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("enabled", queryCoalescer != null);
+        if (queryCoalescer != null) {
+            response.put("stats", queryCoalescer.getStats());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * UserRepository 2차 캐시 통계
+     * GET /api/v1/admin/users/query-cache
+     *
+     * @return ResponseEntity 캐시 통계
+     *         - stats: entries, bytes, hits, misses, evictions, expirations, invalidations
+     */
+    @GetMapping("/query-cache")
+    public ResponseEntity<Map<String, Object>> getQueryCacheStats() {
+        SerializedLruCache cache = SerializedLruCache.get(UserRepository.class.getName());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("stats", cache != null ? cache.getStats() : null);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 검색 수락 제어 통계
+     * GET /api/v1/admin/users/search-admission
+     *
+     * @return ResponseEntity 수락 제어 통계
+     *         - enabled: 수락 제어 사용 여부 (core.user.search-admission.enabled)
+     *         - stats: cheap, expensive, rejected 건수와 expensiveRunning, expensiveWaiting
+     */
+    @GetMapping("/search-admission")
+    public ResponseEntity<Map<String, Object>> getSearchAdmissionStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("enabled", searchAdmission != null);
+        if (searchAdmission != null) {
+            response.put("stats", searchAdmission.getStats());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자 API 동시 실행 제한 통계
+     * GET /api/v1/admin/users/concurrency-limit
+     *
+     * @return ResponseEntity 동시 실행 제한 통계
+     *         - enabled: 제한 사용 여부 (core.user.concurrency-limit.enabled)
+     *         - stats: limit(현재 허용 동시 실행 수), inFlight, accepted, rejected, slow
+     */
+    @GetMapping("/concurrency-limit")
+    public ResponseEntity<Map<String, Object>> getConcurrencyLimitStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("enabled", concurrencyLimitFilter != null);
+        if (concurrencyLimitFilter != null) {
+            response.put("stats", concurrencyLimitFilter.getStats());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 작업 부류(bulkhead)별 포화 통계
+     * GET /api/v1/admin/users/bulkheads
+     *
+     * @return ResponseEntity 작업 부류별 통계
+     *         - enabled: bulkhead 사용 여부 (core.bulkhead.enabled)
+     *         - stats: 부류별 maxConcurrent, active, waiting, saturation, accepted, rejected, timedOut
+     */
+    @GetMapping("/bulkheads")
+    public ResponseEntity<Map<String, Object>> getBulkheadStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("enabled", bulkheadRegistry != null);
+        if (bulkheadRegistry != null) {
+            response.put("stats", bulkheadRegistry.getStats());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자명 자동 완성 인덱스 통계
+     * GET /api/v1/admin/users/suggest-index
+     *
+     * @return ResponseEntity 인덱스 통계
+     *         - enabled: 자동 완성 사용 여부 (core.user.suggest.enabled)
+     *         - stats: entries, baseBytes/deltaBytes/memoryBytes(추정 메모리), queries, rebuilds, compactions
+     */
+    @GetMapping("/suggest-index")
+    public ResponseEntity<Map<String, Object>> getSuggestIndexStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("enabled", suggestIndex != null);
+        if (suggestIndex != null) {
+            response.put("stats", suggestIndex.getStats());
+        }
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,86 @@
+package com.core.domain.user.controller;
+
+import com.core.common.limit.AdaptiveConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 사용자 REST API 적응형 동시 실행 제한 필터
+ *
+ * /api/v1/users/** 요청의 동시 처리 수를 AdaptiveConcurrencyLimiter로 제한합니다.
+ * DB가 느려지면 limit이 줄어들어, Tomcat 스레드가 모두 DB 대기에 묶이기 전에 초과 요청을 503으로 바로 거절합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.concurrency-limit", name = "enabled", havingValue = "true")
+public class UserApiConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String USER_API_PATH = "/api/v1/users";
+
+    private static final String REJECTED_BODY =
+            "{\"success\":false,\"error\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요\"}";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+
+    public UserApiConcurrencyLimitFilter(@Value("${core.user.concurrency-limit.initial-limit:20}") int initialLimit,
+                                         @Value("${core.user.concurrency-limit.min-limit:4}") int minLimit,
+                                         @Value("${core.user.concurrency-limit.max-limit:200}") int maxLimit,
+                                         @Value("${core.user.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+                                         @Value("${core.user.concurrency-limit.latency-threshold-millis:1000}") long latencyThresholdMillis,
+                                         @Value("${core.user.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdMillis);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(path.equals(USER_API_PATH) || path.startsWith(USER_API_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(REJECTED_BODY);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed) {
+                limiter.release(startNanos);
+            } else {
+                limiter.releaseIgnored();
+            }
+        }
+    }
+
+    /**
+     * 현재 limit, 처리 중인 요청 수, 거절 수 등 제한 통계
+     */
+    public Map<String, Object> getStats() {
+        return limiter.getStats();
+    }
+}
@@ -0,0 +1,223 @@
+package com.core.domain.user.controller;
+
+import com.core.common.async.BoundedDbExecutor;
+import com.core.domain.user.dto.TimestampFormat;
+import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.dto.UserResponseDto;
+import com.core.domain.user.service.UserSearchRejectedException;
+import com.core.domain.user.service.UserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 조회 비동기 REST API 컨트롤러
+ * UserController 조회 API와 같은 응답을 반환하되, DB 호출을 BoundedDbExecutor에서 실행하고
+ * 서블릿(Tomcat) 스레드는 바로 반환합니다.
+ * - 실행기 대기 큐가 가득 차거나 요청 시간(core.db-executor.timeout-millis)을 넘기면 503 응답
+ */
+@RestController
+@RequestMapping("/api/v1/async/users")
+public class UserAsyncController {
+
+    private final UserService userService;
+    private final UserETagGenerator etagGenerator;
+    private final BoundedDbExecutor dbExecutor;
+
+    public UserAsyncController(UserService userService, UserETagGenerator etagGenerator,
+                               BoundedDbExecutor dbExecutor) {
+        this.userService = userService;
+        this.etagGenerator = etagGenerator;
+        this.dbExecutor = dbExecutor;
+    }
+
+    /**
+     * 모든 사용자 조회 (비동기)
+     * GET /api/v1/async/users
+     *
+     * @see UserController#getAllUsers
+     */
+    @GetMapping
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getAllUsers(
+            @RequestParam(defaultValue = "ISO") TimestampFormat timestampFormat,
+            WebRequest webRequest) {
+        String etag = etagGenerator.forCollection("list", timestampFormat);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return defer(() -> {
+            List<UserResponseDto.Basic> users = userService.getAllUsers(timestampFormat);
+            long totalCount = userService.getUserCount();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("users", users);
+            response.put("totalCount", totalCount);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * ID로 사용자 조회 (비동기)
+     * GET /api/v1/async/users/{id}
+     *
+     * @see UserController#getUserById
+     */
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getUserById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ISO") TimestampFormat timestampFormat) {
+        return defer(() -> {
+            try {
+                UserResponseDto.Detail user = userService.getUserById(id, timestampFormat);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("user", user);
+                response.put("success", true);
+
+                return ResponseEntity.ok()
+                        .eTag(etagGenerator.forDetail(user, timestampFormat))
+                        .body(response);
+            } catch (IllegalArgumentException e) {
+                return errorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 사용자 검색 (비동기)
+     * GET /api/v1/async/users/search
+     *
+     * @see UserController#searchUsers
+     */
+    @GetMapping("/search")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchUsers(
+            @ModelAttribute UserRequestDto.Search searchDto,
+            WebRequest webRequest) {
+        String etag = etagGenerator.forSearch("search", searchDto);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return defer(() -> {
+            UserResponseDto.Page page = userService.searchUsers(searchDto);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("data", page);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * 사용자 검색 - 주문 통계 포함 (비동기)
+     * GET /api/v1/async/users/search/with-stats
+     *
+     * @see UserController#searchUsersWithStats
+     */
+    @GetMapping("/search/with-stats")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> searchUsersWithStats(
+            @ModelAttribute UserRequestDto.Search searchDto) {
+        return defer(() -> {
+            List<UserResponseDto.WithStats> users = userService.searchUsersWithStats(searchDto);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("users", users);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * 사용자 수 조회 (비동기)
+     * GET /api/v1/async/users/count
+     *
+     * @see UserController#getUserCount
+     */
+    @GetMapping("/count")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> getUserCount(WebRequest webRequest) {
+        String etag = etagGenerator.forCollection("count", TimestampFormat.ISO);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return defer(() -> {
+            long count = userService.getUserCount();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("count", count);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * DB 실행기에서 호출하고 DeferredResult로 연결
+     * - 실행기 거절, 요청 시간 초과: 503
+     * - 검색 비용 제한으로 거절: 429
+     * - 시간 초과 시 아직 시작하지 않은 작업은 취소되어 실행되지 않음
+     */
+    private DeferredResult<ResponseEntity<Map<String, Object>>> defer(
+            Supplier<ResponseEntity<Map<String, Object>>> call) {
+        long timeoutMillis = dbExecutor.getTimeoutMillis();
+        DeferredResult<ResponseEntity<Map<String, Object>>> result = new DeferredResult<>(timeoutMillis,
+                () -> errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 시간을 초과했습니다: " + timeoutMillis + "ms"));
+
+        CompletableFuture<ResponseEntity<Map<String, Object>>> future;
+        try {
+            future = dbExecutor.supply(call);
+        } catch (RejectedExecutionException e) {
+            result.setResult(errorResponse(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+            return result;
+        }
+
+        result.onTimeout(() -> future.cancel(false));
+        future.whenComplete((response, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause == null) {
+                result.setResult(response);
+            } else if (cause instanceof UserSearchRejectedException) {
+                UserSearchRejectedException rejected = (UserSearchRejectedException) cause;
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("error", rejected.getMessage());
+                result.setResult(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(rejected.getRetryAfterSeconds()))
+                        .body(errorResponse));
+            } else {
+                result.setErrorResult(cause);
+            }
+        });
+        return result;
+    }
+
+    private ResponseEntity<Map<String, Object>> errorResponse(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", message);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return builder.body(errorResponse);
+    }
+}
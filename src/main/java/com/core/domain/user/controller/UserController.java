@@ -1,12 +1,19 @@
 package com.core.domain.user.controller;
 
+import com.core.domain.user.dto.TimestampFormat;
 import com.core.domain.user.dto.UserRequestDto;
 import com.core.domain.user.dto.UserResponseDto;
+import com.core.domain.user.service.UserCreateTimeoutException;
+import com.core.domain.user.service.UserSearchRejectedException;
 import com.core.domain.user.service.UserService;
+import com.core.domain.user.service.UserSuggestIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.HashMap;
@@ -23,23 +30,37 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserETagGenerator etagGenerator;
+    private final UserSuggestIndex suggestIndex;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserETagGenerator etagGenerator,
+                          ObjectProvider<UserSuggestIndex> suggestIndexProvider) {
         this.userService = userService;
+        this.etagGenerator = etagGenerator;
+        this.suggestIndex = suggestIndexProvider.getIfAvailable();
     }
 
     /**
      * 모든 사용자 조회
      * GET /api/v1/users
      *
+     * @param timestampFormat 일시 출력 형식 (ISO: 기본값, EPOCH_MILLIS: createdAtEpochMillis로 응답)
+     * @param webRequest If-None-Match 처리용 요청 (목록 버전이 같으면 목록 조회 없이 304 반환)
      * @return ResponseEntity 사용자 목록과 전체 개수를 포함한 응답
      *         - users: 사용자 목록 (UserResponseDto.Basic)
      *         - totalCount: 전체 사용자 수
      *         - success: 성공 여부 (true)
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
-        List<UserResponseDto.Basic> users = userService.getAllUsers();
+    public ResponseEntity<Map<String, Object>> getAllUsers(
+            @RequestParam(defaultValue = "ISO") TimestampFormat timestampFormat,
+            WebRequest webRequest) {
+        String etag = etagGenerator.forCollection("list", timestampFormat);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<UserResponseDto.Basic> users = userService.getAllUsers(timestampFormat);
         long totalCount = userService.getUserCount();
 
         Map<String, Object> response = new HashMap<>();
@@ -55,6 +76,8 @@ public class UserController {
      * GET /api/v1/users/{id}
      *
      * @param id 조회할 사용자 ID
+     * @param timestampFormat 일시 출력 형식 (ISO: 기본값, EPOCH_MILLIS: createdAtEpochMillis/updatedAtEpochMillis로 응답)
+     * @param webRequest If-None-Match 처리용 요청 (ETag가 같으면 직렬화 없이 304 반환)
      * @return ResponseEntity 사용자 상세 정보 또는 에러 메시지
      *         성공 시:
      *         - user: 사용자 상세 정보 (UserResponseDto.Detail)
@@ -64,9 +87,15 @@ public class UserController {
      *         - error: 에러 메시지
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getUserById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ISO") TimestampFormat timestampFormat,
+            WebRequest webRequest) {
         try {
-            UserResponseDto.Detail user = userService.getUserById(id);
+            UserResponseDto.Detail user = userService.getUserById(id, timestampFormat);
+            if (webRequest.checkNotModified(etagGenerator.forDetail(user, timestampFormat))) {
+                return null;
+            }
 
             Map<String, Object> response = new HashMap<>();
             response.put("user", user);
@@ -94,6 +123,9 @@ public class UserController {
      *         실패 시 (400):
      *         - success: false
      *         - error: 에러 메시지 (중복 사용자명/이메일, 유효성 검증 실패 등)
+     *         그룹 커밋 대기 시간 초과 시 (503):
+     *         - success: false
+     *         - error: 에러 메시지
      */
     @PostMapping
     public ResponseEntity<Map<String, Object>> createUser(
@@ -112,6 +144,13 @@ public class UserController {
             errorResponse.put("success", false);
             errorResponse.put("error", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (UserCreateTimeoutException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(errorResponse);
         }
     }
 
@@ -207,20 +246,35 @@ public class UserController {
      *                  - sortDirection: 정렬 방향 (ASC, DESC)
      *                  - page: 페이지 번호 (기본값: 0)
      *                  - size: 페이지 크기 (기본값: 20)
+     *                  - timestampFormat: 일시 출력 형식 (ISO: 기본값, EPOCH_MILLIS)
+     * @param webRequest If-None-Match 처리용 요청 (목록 버전과 검색 조건이 같으면 검색 없이 304 반환)
      * @return ResponseEntity 검색 결과와 페이징 정보
      *         - data: 페이징 정보와 사용자 목록 (UserResponseDto.Page)
      *         - success: true
+     *         검색 비용 제한으로 거절 시 (429, Retry-After 헤더):
+     *         - success: false
+     *         - error: 에러 메시지
      */
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> searchUsers(
-            @ModelAttribute UserRequestDto.Search searchDto) {
-        UserResponseDto.Page page = userService.searchUsers(searchDto);
+            @ModelAttribute UserRequestDto.Search searchDto,
+            WebRequest webRequest) {
+        String etag = etagGenerator.forSearch("search", searchDto);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("data", page);
-        response.put("success", true);
+        try {
+            UserResponseDto.Page page = userService.searchUsers(searchDto);
 
-        return ResponseEntity.ok(response);
+            Map<String, Object> response = new HashMap<>();
+            response.put("data", page);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        } catch (UserSearchRejectedException e) {
+            return searchRejectedResponse(e);
+        }
     }
 
     /**
@@ -232,17 +286,24 @@ public class UserController {
      *         - users: 주문 통계가 포함된 사용자 목록 (UserResponseDto.WithStats)
      *           각 사용자는 orderCount(주문 수), totalAmount(총 금액), customerTier(고객 등급) 포함
      *         - success: true
+     *         검색 비용 제한으로 거절 시 (429, Retry-After 헤더):
+     *         - success: false
+     *         - error: 에러 메시지
      */
     @GetMapping("/search/with-stats")
     public ResponseEntity<Map<String, Object>> searchUsersWithStats(
             @ModelAttribute UserRequestDto.Search searchDto) {
-        List<UserResponseDto.WithStats> users = userService.searchUsersWithStats(searchDto);
+        try {
+            List<UserResponseDto.WithStats> users = userService.searchUsersWithStats(searchDto);
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("users", users);
-        response.put("success", true);
+            Map<String, Object> response = new HashMap<>();
+            response.put("users", users);
+            response.put("success", true);
 
-        return ResponseEntity.ok(response);
+            return ResponseEntity.ok(response);
+        } catch (UserSearchRejectedException e) {
+            return searchRejectedResponse(e);
+        }
     }
 
     /**
@@ -250,25 +311,32 @@ public class UserController {
      * POST /api/v1/users/batch
      *
      * @param requests 사용자 생성 요청 DTO 리스트
+     * @param returnIds 생성된 ID 목록 포함 여부 (기본값: false)
      * @return ResponseEntity 생성 결과
      *         성공 시 (201):
      *         - success: true
      *         - message: 생성된 사용자 수 메시지
      *         - count: 생성된 사용자 수
+     *         - ids: 생성된 사용자 ID 목록 (요청 순서, returnIds=true 인 경우)
      *         실패 시 (400):
      *         - success: false
      *         - error: 에러 메시지 (중복, 유효성 검증 실패 등)
      */
     @PostMapping("/batch")
     public ResponseEntity<Map<String, Object>> batchCreateUsers(
-            @Valid @RequestBody List<UserRequestDto.Create> requests) {
+            @Valid @RequestBody List<UserRequestDto.Create> requests,
+            @RequestParam(defaultValue = "false") boolean returnIds) {
         try {
-            int count = userService.batchCreateUsers(requests);
+            List<Long> ids = userService.batchCreateUsers(requests);
+            int count = ids.size();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", count + "명의 사용자가 생성되었습니다");
             response.put("count", count);
+            if (returnIds) {
+                response.put("ids", ids);
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
@@ -279,16 +347,123 @@ public class UserController {
         }
     }
 
+    /**
+     * 대량 부분 수정
+     * PATCH /api/v1/users/bulk
+     * isActive/status 변경을 건별 PUT 대신 한 요청으로 처리합니다.
+     *
+     * @param items 수정 항목 리스트 (id + 변경할 필드 isActive, status)
+     * @return ResponseEntity 항목별 처리 결과
+     *         성공 시 (200):
+     *         - success: true
+     *         - results: 요청 순서대로의 항목별 결과 (UPDATED, NOT_FOUND, INVALID)
+     *         - updatedCount: 수정된 사용자 수
+     *         실패 시 (400):
+     *         - success: false
+     *         - error: 에러 메시지 (항목 수 초과 등)
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> bulkUpdateUsers(
+            @RequestBody List<UserRequestDto.BulkUpdate> items) {
+        try {
+            List<UserResponseDto.BulkResult> results = userService.bulkUpdateUsers(items);
+            long updatedCount = results.stream()
+                    .filter(result -> result.getResult() == UserResponseDto.BulkResult.Outcome.UPDATED)
+                    .count();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("results", results);
+            response.put("updatedCount", updatedCount);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    /**
+     * 사용자 동기화 (단건 upsert)
+     * PUT /api/v1/users/upsert
+     * username 기준으로 없으면 생성하고, 있으면 스냅샷 값으로 덮어씁니다.
+     *
+     * @param request 사용자 스냅샷 (username, email, isActive, status)
+     * @return ResponseEntity 처리 결과
+     *         성공 시 (200):
+     *         - success: true
+     *         - result: 처리 결과 (INSERTED, UPDATED, UNCHANGED)
+     *         실패 시 (400):
+     *         - success: false
+     *         - error: 에러 메시지 (유효성 검증 실패)
+     */
+    @PutMapping("/upsert")
+    public ResponseEntity<Map<String, Object>> upsertUser(@Valid @RequestBody UserRequestDto.Upsert request) {
+        UserResponseDto.BulkResult result = userService.upsertUser(request);
+        if (result.getResult() == UserResponseDto.BulkResult.Outcome.INVALID) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", result.getError());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("result", result);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자 동기화 (대량 upsert)
+     * PUT /api/v1/users/upsert/batch
+     * 청크(500건)당 기존 행 조회 1회 + INSERT ... ON DUPLICATE KEY UPDATE 1회로 반영합니다.
+     *
+     * @param requests 사용자 스냅샷 리스트
+     * @return ResponseEntity 항목별 처리 결과
+     *         성공 시 (200):
+     *         - success: true
+     *         - results: 요청 순서대로의 항목별 결과 (INSERTED, UPDATED, UNCHANGED, INVALID)
+     *         실패 시 (400):
+     *         - success: false
+     *         - error: 에러 메시지 (항목 수 초과 등)
+     */
+    @PutMapping("/upsert/batch")
+    public ResponseEntity<Map<String, Object>> upsertUsers(@RequestBody List<UserRequestDto.Upsert> requests) {
+        try {
+            List<UserResponseDto.BulkResult> results = userService.upsertUsers(requests);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("results", results);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     /**
      * 사용자 수 조회
      * GET /api/v1/users/count
      *
+     * @param webRequest If-None-Match 처리용 요청 (목록 버전이 같으면 목록 조회 없이 304 반환)
      * @return ResponseEntity 전체 사용자 수
      *         - count: 사용자 수 (삭제된 사용자 제외)
      *         - success: true
      */
     @GetMapping("/count")
-    public ResponseEntity<Map<String, Object>> getUserCount() {
+    public ResponseEntity<Map<String, Object>> getUserCount(WebRequest webRequest) {
+        String etag = etagGenerator.forCollection("count", TimestampFormat.ISO);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         long count = userService.getUserCount();
 
         Map<String, Object> response = new HashMap<>();
@@ -297,4 +472,66 @@ public class UserController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 사용자명 자동 완성
+     * GET /api/v1/users/suggest?prefix=
+     * DB 대신 메모리의 활성 사용자명 인덱스(UserSuggestIndex)에서 접두어로 찾습니다.
+     * (검색 API의 usernamePattern은 LIKE '%...%' 전체 스캔이므로 키 입력마다 호출하지 않도록 함)
+     *
+     * @param prefix 사용자명 접두어 (대소문자 무시, 1~50자)
+     * @param limit 최대 개수 (기본값: 10)
+     * @return ResponseEntity 자동 완성 결과
+     *         성공 시:
+     *         - suggestions: 사용자명 목록 (사용자명 순)
+     *         - success: true
+     *         실패 시 (400):
+     *         - success: false
+     *         - error: 에러 메시지 (접두어/개수 범위 오류)
+     *         인덱스 비활성화 또는 로드 전 (503):
+     *         - success: false
+     *         - error: 에러 메시지
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggestUsernames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (suggestIndex == null || !suggestIndex.isReady()) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", suggestIndex == null
+                    ? "자동 완성이 비활성화되어 있습니다"
+                    : "자동 완성 인덱스를 불러오는 중입니다");
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+            if (suggestIndex != null) {
+                builder.header(HttpHeaders.RETRY_AFTER, "1");
+            }
+            return builder.body(errorResponse);
+        }
+
+        try {
+            List<String> suggestions = suggestIndex.suggest(prefix, limit);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("suggestions", suggestions);
+            response.put("success", true);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> searchRejectedResponse(UserSearchRejectedException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
 }
@@ -0,0 +1,95 @@
+package com.core.domain.user.controller;
+
+import com.core.domain.user.dto.TimestampFormat;
+import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.dto.UserResponseDto;
+import com.core.domain.user.service.UserCollectionVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 사용자 API 응답의 강한(strong) ETag 생성기
+ * - 상세 조회: 사용자 ID + 마지막 변경 시각(updated_at) + 응답 필드 해시
+ *   (같은 초 안에 두 번 수정되거나 order_count만 바뀐 경우도 구분)
+ * - 목록/검색/개수: 목록 버전(UserCollectionVersion) + 정규화된 검색 조건 해시
+ *   버전은 목록 조회 전에 읽으므로, If-None-Match가 일치하면 목록을 조회하지 않고 304를 반환할 수 있습니다.
+ *   버전이 없으면(core.user.etag.collection-version=NONE) null을 반환하며, 이때는 ETag 없이 응답합니다.
+ */
+@Component
+public class UserETagGenerator {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final UserCollectionVersion collectionVersion;
+
+    public UserETagGenerator(UserCollectionVersion collectionVersion) {
+        this.collectionVersion = collectionVersion;
+    }
+
+    /**
+     * 사용자 상세 응답 ETag
+     */
+    public String forDetail(UserResponseDto.Detail detail, TimestampFormat timestampFormat) {
+        long hash = hash(FNV_OFFSET_BASIS, detail.getUsername());
+        hash = hash(hash, detail.getEmail());
+        hash = hash(hash, Objects.toString(detail.getIsActive()));
+        hash = hash(hash, detail.getStatus());
+        hash = hash(hash, Objects.toString(detail.getOrderCount()));
+        hash = hash(hash, detail.getCustomerTier());
+        hash = hash(hash, timestampFormat.name());
+
+        long lastModified = detail.getLastModifiedEpochMillis() != null ? detail.getLastModifiedEpochMillis() : 0L;
+        return quote(detail.getId() + "-" + Long.toHexString(lastModified) + "-" + Long.toHexString(hash));
+    }
+
+    /**
+     * 검색 조건이 없는 목록성 응답 ETag (전체 목록, 개수)
+     *
+     * @return String ETag (목록 버전이 없으면 null)
+     */
+    public String forCollection(String resource, TimestampFormat timestampFormat) {
+        String version = collectionVersion.current();
+        if (version == null) {
+            return null;
+        }
+        return quote(resource + "-" + version + "-" + timestampFormat.name());
+    }
+
+    /**
+     * 검색 응답 ETag
+     *
+     * @return String ETag (목록 버전이 없으면 null)
+     */
+    public String forSearch(String resource, UserRequestDto.Search searchDto) {
+        String version = collectionVersion.current();
+        if (version == null) {
+            return null;
+        }
+        TimestampFormat timestampFormat = searchDto.getTimestampFormat() != null
+                ? searchDto.getTimestampFormat()
+                : TimestampFormat.ISO;
+        long hash = hash(FNV_OFFSET_BASIS, searchDto.toCriteria().toCanonicalString());
+        hash = hash(hash, timestampFormat.name());
+        return quote(resource + "-" + version + "-" + Long.toHexString(hash));
+    }
+
+    // FNV-1a 64bit 해시
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // 필드 구분자
+        hash ^= 0x1f;
+        return hash * FNV_PRIME;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
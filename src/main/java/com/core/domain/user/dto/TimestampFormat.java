@@ -0,0 +1,18 @@
+package com.core.domain.user.dto;
+
+/**
+ * 응답 DTO의 일시 필드 출력 형식
+ * 요청 파라미터 timestampFormat으로 선택합니다.
+ */
+public enum TimestampFormat {
+    /**
+     * ISO-8601 문자열 (예: 2024-01-15T10:30:00) - 기본값
+     */
+    ISO,
+
+    /**
+     * epoch millis 숫자 (시스템 기본 시간대 기준)
+     * createdAt/updatedAt 대신 createdAtEpochMillis/updatedAtEpochMillis 필드로 응답
+     */
+    EPOCH_MILLIS
+}
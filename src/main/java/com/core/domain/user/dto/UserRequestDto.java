@@ -1,8 +1,11 @@
 package com.core.domain.user.dto;
 
+import com.core.model.UserSearchCriteria;
+
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import java.util.List;
 
 /**
  * 사용자 요청 DTO
@@ -134,6 +137,7 @@ public class UserRequestDto {
         private String sortDirection;
         private Integer page;
         private Integer size;
+        private TimestampFormat timestampFormat;
 
         public Search() {
         }
@@ -259,6 +263,14 @@ public class UserRequestDto {
             this.size = size;
         }
 
+        public TimestampFormat getTimestampFormat() {
+            return timestampFormat;
+        }
+
+        public void setTimestampFormat(TimestampFormat timestampFormat) {
+            this.timestampFormat = timestampFormat;
+        }
+
         // 페이징 계산
         public Integer getOffset() {
             if (page == null || size == null) {
@@ -271,6 +283,29 @@ public class UserRequestDto {
             return size;
         }
 
+        /**
+         * Repository 계층의 검색 조건 객체로 변환
+         */
+        public UserSearchCriteria toCriteria() {
+            UserSearchCriteria criteria = new UserSearchCriteria();
+            criteria.setId(id);
+            criteria.setUsername(username);
+            criteria.setEmail(email);
+            criteria.setUsernamePattern(usernamePattern);
+            criteria.setEmailPattern(emailPattern);
+            criteria.setMinId(minId);
+            criteria.setMaxId(maxId);
+            criteria.setStartDate(startDate);
+            criteria.setEndDate(endDate);
+            criteria.setIsActive(isActive);
+            criteria.setUserStatus(userStatus);
+            criteria.setOrderBy(orderBy);
+            criteria.setSortDirection(sortDirection);
+            criteria.setLimit(getLimit());
+            criteria.setOffset(getOffset());
+            return criteria.normalize();
+        }
+
         @Override
         public String toString() {
             return "Search{" +
@@ -289,6 +324,217 @@ public class UserRequestDto {
                     ", sortDirection='" + sortDirection + '\'' +
                     ", page=" + page +
                     ", size=" + size +
+                    ", timestampFormat=" + timestampFormat +
+                    '}';
+        }
+    }
+
+    /**
+     * 대량 삭제 작업 요청 DTO
+     * 조건은 deleteUsersDynamically와 같으며, 최소 하나 이상 지정해야 합니다.
+     */
+    public static class BulkDelete {
+        private List<Long> ids;
+        private String startDate;
+        private String endDate;
+        private String userStatus;
+
+        public BulkDelete() {
+        }
+
+        /**
+         * 삭제 조건이 하나라도 지정되었는지 여부 (조건 없는 전체 삭제 방지)
+         */
+        public boolean hasCondition() {
+            return (ids != null && !ids.isEmpty())
+                    || (startDate != null && endDate != null)
+                    || (userStatus != null && !userStatus.isEmpty());
+        }
+
+        /**
+         * 검색 조건 객체로 변환
+         */
+        public UserSearchCriteria toCriteria() {
+            UserSearchCriteria criteria = new UserSearchCriteria();
+            criteria.setIds(ids);
+            criteria.setStartDate(startDate);
+            criteria.setEndDate(endDate);
+            criteria.setUserStatus(userStatus);
+            return criteria;
+        }
+
+        // Getters and Setters
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        public String getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(String startDate) {
+            this.startDate = startDate;
+        }
+
+        public String getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(String endDate) {
+            this.endDate = endDate;
+        }
+
+        public String getUserStatus() {
+            return userStatus;
+        }
+
+        public void setUserStatus(String userStatus) {
+            this.userStatus = userStatus;
+        }
+
+        @Override
+        public String toString() {
+            return "BulkDelete{" +
+                    "ids=" + ids +
+                    ", startDate='" + startDate + '\'' +
+                    ", endDate='" + endDate + '\'' +
+                    ", userStatus='" + userStatus + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * 대량 부분 수정 항목 DTO
+     * id와 변경할 필드(isActive, status)만 지정합니다. null인 필드는 변경하지 않습니다.
+     */
+    public static class BulkUpdate {
+        private Long id;
+        private Boolean isActive;
+        private String status;
+
+        public BulkUpdate() {
+        }
+
+        public BulkUpdate(Long id, Boolean isActive, String status) {
+            this.id = id;
+            this.isActive = isActive;
+            this.status = status;
+        }
+
+        /**
+         * 변경 컬럼 조합 키 (같은 키끼리 같은 UPDATE 문 형태를 공유)
+         * bit 0: is_active, bit 1: status
+         */
+        public int changedColumnsKey() {
+            return (isActive != null ? 1 : 0) | (status != null ? 2 : 0);
+        }
+
+        // Getters and Setters
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Boolean getIsActive() {
+            return isActive;
+        }
+
+        public void setIsActive(Boolean isActive) {
+            this.isActive = isActive;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        @Override
+        public String toString() {
+            return "BulkUpdate{" +
+                    "id=" + id +
+                    ", isActive=" + isActive +
+                    ", status='" + status + '\'' +
+                    '}';
+        }
+    }
+
+    /**
+     * 사용자 동기화(upsert) 요청 DTO
+     * username을 키로 없으면 생성하고, 있으면 스냅샷 값으로 덮어씁니다.
+     * isActive, status를 생략하면 true, ACTIVE로 간주합니다.
+     */
+    public static class Upsert {
+        @NotBlank(message = "사용자명은 필수입니다")
+        @Size(min = 3, max = 50, message = "사용자명은 3~50자 사이여야 합니다")
+        private String username;
+
+        @NotBlank(message = "이메일은 필수입니다")
+        @Email(message = "올바른 이메일 형식이 아닙니다")
+        private String email;
+
+        private Boolean isActive;
+        private String status;
+
+        public Upsert() {
+        }
+
+        public Upsert(String username, String email, Boolean isActive, String status) {
+            this.username = username;
+            this.email = email;
+            this.isActive = isActive;
+            this.status = status;
+        }
+
+        // Getters and Setters
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public Boolean getIsActive() {
+            return isActive;
+        }
+
+        public void setIsActive(Boolean isActive) {
+            this.isActive = isActive;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        @Override
+        public String toString() {
+            return "Upsert{" +
+                    "username='" + username + '\'' +
+                    ", email='" + email + '\'' +
+                    ", isActive=" + isActive +
+                    ", status='" + status + '\'' +
                     '}';
         }
     }
@@ -1,9 +1,10 @@
 package com.core.domain.user.dto;
 
+import com.core.common.time.IsoDateTimeWriter;
 import com.core.domain.user.entity.UserEntity;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +23,9 @@ public class UserResponseDto {
         private String email;
         private String createdAt;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long createdAtEpochMillis;
+
         public Basic() {
         }
 
@@ -34,6 +38,11 @@ public class UserResponseDto {
 
         // Entity에서 DTO로 변환
         public static Basic from(UserEntity entity) {
+            return from(entity, TimestampFormat.ISO);
+        }
+
+        // Entity에서 DTO로 변환 (일시 출력 형식 지정)
+        public static Basic from(UserEntity entity, TimestampFormat timestampFormat) {
             if (entity == null) {
                 return null;
             }
@@ -41,16 +50,23 @@ public class UserResponseDto {
             dto.setId(entity.getId());
             dto.setUsername(entity.getUsername());
             dto.setEmail(entity.getEmail());
-            if (entity.getCreatedAt() != null) {
-                dto.setCreatedAt(entity.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            if (timestampFormat == TimestampFormat.EPOCH_MILLIS) {
+                dto.setCreatedAtEpochMillis(IsoDateTimeWriter.toEpochMillis(entity.getCreatedAt()));
+            } else {
+                dto.setCreatedAt(IsoDateTimeWriter.format(entity.getCreatedAt()));
             }
             return dto;
         }
 
         // 리스트 변환
         public static List<Basic> fromList(List<UserEntity> entities) {
+            return fromList(entities, TimestampFormat.ISO);
+        }
+
+        // 리스트 변환 (일시 출력 형식 지정)
+        public static List<Basic> fromList(List<UserEntity> entities, TimestampFormat timestampFormat) {
             return entities.stream()
-                    .map(Basic::from)
+                    .map(entity -> from(entity, timestampFormat))
                     .collect(Collectors.toList());
         }
 
@@ -87,6 +103,14 @@ public class UserResponseDto {
             this.createdAt = createdAt;
         }
 
+        public Long getCreatedAtEpochMillis() {
+            return createdAtEpochMillis;
+        }
+
+        public void setCreatedAtEpochMillis(Long createdAtEpochMillis) {
+            this.createdAtEpochMillis = createdAtEpochMillis;
+        }
+
         @Override
         public String toString() {
             return "Basic{" +
@@ -108,14 +132,30 @@ public class UserResponseDto {
         private Boolean isActive;
         private String status;
         private Integer orderCount;
+        private String customerTier;
         private String createdAt;
         private String updatedAt;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long createdAtEpochMillis;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long updatedAtEpochMillis;
+
+        // 마지막 변경 시각 (updated_at, 없으면 created_at) - ETag 계산용, 응답에는 포함하지 않음
+        @JsonIgnore
+        private Long lastModifiedEpochMillis;
+
         public Detail() {
         }
 
         // Entity에서 DTO로 변환
         public static Detail from(UserEntity entity) {
+            return from(entity, TimestampFormat.ISO);
+        }
+
+        // Entity에서 DTO로 변환 (일시 출력 형식 지정)
+        public static Detail from(UserEntity entity, TimestampFormat timestampFormat) {
             if (entity == null) {
                 return null;
             }
@@ -126,11 +166,15 @@ public class UserResponseDto {
             dto.setIsActive(entity.getIsActive());
             dto.setStatus(entity.getStatus());
             dto.setOrderCount(entity.getOrderCount());
-            if (entity.getCreatedAt() != null) {
-                dto.setCreatedAt(entity.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-            }
-            if (entity.getUpdatedAt() != null) {
-                dto.setUpdatedAt(entity.getUpdatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            dto.setCustomerTier(entity.getCustomerTier());
+            dto.setLastModifiedEpochMillis(IsoDateTimeWriter.toEpochMillis(
+                    entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt()));
+            if (timestampFormat == TimestampFormat.EPOCH_MILLIS) {
+                dto.setCreatedAtEpochMillis(IsoDateTimeWriter.toEpochMillis(entity.getCreatedAt()));
+                dto.setUpdatedAtEpochMillis(IsoDateTimeWriter.toEpochMillis(entity.getUpdatedAt()));
+            } else {
+                dto.setCreatedAt(IsoDateTimeWriter.format(entity.getCreatedAt()));
+                dto.setUpdatedAt(IsoDateTimeWriter.format(entity.getUpdatedAt()));
             }
             return dto;
         }
@@ -184,6 +228,14 @@ public class UserResponseDto {
             this.orderCount = orderCount;
         }
 
+        public String getCustomerTier() {
+            return customerTier;
+        }
+
+        public void setCustomerTier(String customerTier) {
+            this.customerTier = customerTier;
+        }
+
         public String getCreatedAt() {
             return createdAt;
         }
@@ -200,6 +252,31 @@ public class UserResponseDto {
             this.updatedAt = updatedAt;
         }
 
+        public Long getCreatedAtEpochMillis() {
+            return createdAtEpochMillis;
+        }
+
+        public void setCreatedAtEpochMillis(Long createdAtEpochMillis) {
+            this.createdAtEpochMillis = createdAtEpochMillis;
+        }
+
+        public Long getUpdatedAtEpochMillis() {
+            return updatedAtEpochMillis;
+        }
+
+        public void setUpdatedAtEpochMillis(Long updatedAtEpochMillis) {
+            this.updatedAtEpochMillis = updatedAtEpochMillis;
+        }
+
+        @JsonIgnore
+        public Long getLastModifiedEpochMillis() {
+            return lastModifiedEpochMillis;
+        }
+
+        public void setLastModifiedEpochMillis(Long lastModifiedEpochMillis) {
+            this.lastModifiedEpochMillis = lastModifiedEpochMillis;
+        }
+
         @Override
         public String toString() {
             return "Detail{" +
@@ -374,4 +451,92 @@ public class UserResponseDto {
                     '}';
         }
     }
+
+    /**
+     * 대량 처리 항목별 결과 DTO
+     */
+    public static class BulkResult {
+
+        public enum Outcome {
+            INSERTED, UPDATED, UNCHANGED, NOT_FOUND, INVALID
+        }
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long id;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String username;
+
+        private Outcome result;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String error;
+
+        public BulkResult() {
+        }
+
+        public BulkResult(Long id, Outcome result, String error) {
+            this.id = id;
+            this.result = result;
+            this.error = error;
+        }
+
+        public static BulkResult of(Long id, Outcome result) {
+            return new BulkResult(id, result, null);
+        }
+
+        public static BulkResult invalid(Long id, String error) {
+            return new BulkResult(id, Outcome.INVALID, error);
+        }
+
+        // username 기준 결과 (upsert)
+        public static BulkResult ofUsername(String username, Outcome result, String error) {
+            BulkResult bulkResult = new BulkResult(null, result, error);
+            bulkResult.setUsername(username);
+            return bulkResult;
+        }
+
+        // Getters and Setters
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public Outcome getResult() {
+            return result;
+        }
+
+        public void setResult(Outcome result) {
+            this.result = result;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            return "BulkResult{" +
+                    "id=" + id +
+                    ", username='" + username + '\'' +
+                    ", result=" + result +
+                    ", error='" + error + '\'' +
+                    '}';
+        }
+    }
 }
\ No newline at end of file
@@ -1,18 +1,24 @@
 package com.core.domain.user.entity;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
  * 사용자 엔티티 (DB 테이블과 매핑)
  * MyBatis에서 사용하는 도메인 엔티티
+ * (2차 캐시에 직렬화하여 저장되므로 Serializable)
  */
-public class UserEntity {
+public class UserEntity implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String username;
     private String email;
     private Boolean isActive;
     private String status;
     private Integer orderCount;
+    private String customerTier;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
@@ -75,6 +81,14 @@ public class UserEntity {
         this.orderCount = orderCount;
     }
 
+    public String getCustomerTier() {
+        return customerTier;
+    }
+
+    public void setCustomerTier(String customerTier) {
+        this.customerTier = customerTier;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -108,6 +122,7 @@ public class UserEntity {
                 ", isActive=" + isActive +
                 ", status='" + status + '\'' +
                 ", orderCount=" + orderCount +
+                ", customerTier='" + customerTier + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 ", deletedAt=" + deletedAt +
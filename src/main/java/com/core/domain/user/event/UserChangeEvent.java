@@ -0,0 +1,90 @@
+package com.core.domain.user.event;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 사용자 변경 이벤트
+ * 사용자 생성/수정/삭제가 커밋된 뒤 UserChangeEventBus를 통해 전달되는 불변 객체
+ */
+public class UserChangeEvent {
+
+    /**
+     * 변경 유형
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final String username;
+    private final String previousUsername;
+    private final Set<String> changedFields;
+    private final long generation;
+
+    public UserChangeEvent(Type type, Long userId, String username, String previousUsername,
+                           Set<String> changedFields, long generation) {
+        this.type = type;
+        this.userId = userId;
+        this.username = username;
+        this.previousUsername = previousUsername;
+        this.changedFields = changedFields != null
+                ? Collections.unmodifiableSet(changedFields)
+                : Collections.<String>emptySet();
+        this.generation = generation;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 변경된 사용자 ID (생성 키를 돌려받지 못한 대량 등록에서는 null일 수 있음)
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 변경 후 사용자명 (삭제 이벤트는 삭제된 사용자의 사용자명)
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * 변경 전 사용자명 (사용자명이 바뀐 UPDATED 이벤트에서만 설정)
+     */
+    public String getPreviousUsername() {
+        return previousUsername;
+    }
+
+    /**
+     * 변경된 필드명 (username, email, isActive, status 등)
+     */
+    public Set<String> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * 이 이벤트로 증가한 쓰기 세대 번호
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChangeEvent{" +
+                "type=" + type +
+                ", userId=" + userId +
+                ", username='" + username + '\'' +
+                ", previousUsername='" + previousUsername + '\'' +
+                ", changedFields=" + changedFields +
+                ", generation=" + generation +
+                '}';
+    }
+}
@@ -0,0 +1,216 @@
+package com.core.domain.user.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자 변경 이벤트 버스 + users 테이블 쓰기 세대(generation) 카운터
+ *
+ * - 세대 번호는 링 버퍼의 쓰기 시퀀스와 같습니다. 이벤트 발행 시 AtomicLong 하나로 세대와 슬롯을 동시에 확보하므로
+ *   발행 경로에 잠금이 없고, 링 안의 이벤트 순서가 곧 세대 순서입니다.
+ * - 트랜잭션 안에서 발행하면 커밋 이후에 세대를 올리므로, 커밋 전 데이터가 새 세대로 읽히지 않습니다.
+ * - 단일 디스패처 스레드가 링을 순서대로 읽어 등록된 리스너에 전달합니다.
+ *   리스너가 밀려 링이 넘치면 덮어쓴 구간을 onEventsLost로 알립니다.
+ *
+ * 주의: 프로세스 내 카운터이므로 다른 노드의 쓰기는 반영되지 않습니다.
+ * (여러 노드에서 공유해야 하는 목록 ETag는 users_write_generation을 사용, UserCollectionVersion 참고)
+ * 재시작 시 세대가 초기화되므로 generationToken()에는 프로세스 시작 시각(epoch)을 함께 포함합니다.
+ */
+@Component
+public class UserChangeEventBus implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(UserChangeEventBus.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final long epoch = System.currentTimeMillis();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<UserChangeEvent> ring;
+
+    // 마지막으로 확보된 세대 번호 (= 링 쓰기 시퀀스)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong lostCount = new AtomicLong();
+
+    private final List<UserChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final ObjectProvider<UserChangeListener> listenerProvider;
+
+    private final Thread dispatcher;
+    private volatile boolean dispatcherWaiting;
+    private volatile boolean running = true;
+
+    public UserChangeEventBus(@Value("${core.user.events.ring-size:4096}") int ringSize,
+                              ObjectProvider<UserChangeListener> listenerProvider) {
+        int size = Integer.highestOneBit(Math.max(ringSize, 2) - 1) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.listenerProvider = listenerProvider;
+        this.dispatcher = new Thread(this::dispatchLoop, "user-change-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    /**
+     * 모든 싱글톤 생성 후 리스너 Bean 등록 및 디스패처 시작
+     * (리스너가 이벤트 버스를 주입받아도 순환 참조가 생기지 않도록 생성 시점이 아닌 여기서 조회)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        listenerProvider.orderedStream().forEach(listeners::add);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+    }
+
+    /**
+     * 리스너 수동 등록
+     */
+    public void register(UserChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 리스너 등록 해제
+     */
+    public void unregister(UserChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 현재 쓰기 세대 번호 (잠금 없이 읽음)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 프로세스 epoch을 포함한 세대 토큰 (예: 18c5f2a1b3e-42)
+     */
+    public String generationToken() {
+        return Long.toHexString(epoch) + "-" + generation.get();
+    }
+
+    /**
+     * 변경 이벤트 발행
+     * 활성 트랜잭션이 있으면 커밋 후 발행하고, 롤백되면 발행하지 않습니다.
+     */
+    public void publishAfterCommit(UserChangeEvent.Type type, Long userId, String username,
+                                   String previousUsername, Set<String> changedFields) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(type, userId, username, previousUsername, changedFields);
+                }
+            });
+        } else {
+            publish(type, userId, username, previousUsername, changedFields);
+        }
+    }
+
+    /**
+     * 변경 이벤트 즉시 발행 (세대 증가 + 링 버퍼 기록)
+     *
+     * @return 새 세대 번호
+     */
+    public long publish(UserChangeEvent.Type type, Long userId, String username,
+                        String previousUsername, Set<String> changedFields) {
+        long next = generation.incrementAndGet();
+        ring.set((int) (next & mask), new UserChangeEvent(type, userId, username, previousUsername, changedFields, next));
+        if (dispatcherWaiting) {
+            LockSupport.unpark(dispatcher);
+        }
+        return next;
+    }
+
+    /**
+     * 리스너에 전달된 이벤트 수
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    /**
+     * 링 버퍼 초과로 유실된 이벤트 수
+     */
+    public long getLostCount() {
+        return lostCount.get();
+    }
+
+    // ==================== 디스패처 ====================
+
+    private void dispatchLoop() {
+        long next = 1;
+        while (running) {
+            long latest = generation.get();
+
+            // 링 한 바퀴 이상 밀린 경우: 덮어쓴 구간은 유실 처리
+            if (latest - next >= capacity) {
+                long lostTo = latest - capacity;
+                notifyLost(next, lostTo);
+                next = lostTo + 1;
+                continue;
+            }
+
+            UserChangeEvent event = ring.get((int) (next & mask));
+            if (event != null && event.getGeneration() == next) {
+                dispatch(event);
+                next++;
+            } else if (latest >= next) {
+                // 세대는 확보되었지만 아직 슬롯에 기록되지 않음
+                Thread.yield();
+            } else {
+                dispatcherWaiting = true;
+                if (generation.get() < next) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                dispatcherWaiting = false;
+            }
+        }
+    }
+
+    private void dispatch(UserChangeEvent event) {
+        for (UserChangeListener listener : listeners) {
+            try {
+                listener.onUserChanged(event);
+            } catch (RuntimeException e) {
+                log.warn("사용자 변경 이벤트 처리 실패: listener={}, event={}", listener, event, e);
+            }
+        }
+        dispatchedCount.incrementAndGet();
+    }
+
+    private void notifyLost(long fromGeneration, long toGeneration) {
+        lostCount.addAndGet(toGeneration - fromGeneration + 1);
+        log.warn("사용자 변경 이벤트 유실: generation {} ~ {}", fromGeneration, toGeneration);
+        for (UserChangeListener listener : listeners) {
+            try {
+                listener.onEventsLost(fromGeneration, toGeneration);
+            } catch (RuntimeException e) {
+                log.warn("사용자 변경 이벤트 유실 처리 실패: listener={}", listener, e);
+            }
+        }
+    }
+}
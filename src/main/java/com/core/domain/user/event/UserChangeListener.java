@@ -0,0 +1,24 @@
+package com.core.domain.user.event;
+
+/**
+ * 사용자 변경 이벤트 리스너
+ * Spring Bean으로 등록하면 UserChangeEventBus에 자동으로 등록됩니다.
+ * 이벤트는 단일 디스패처 스레드에서 세대 순서대로 호출되므로 리스너는 빠르게 반환해야 합니다.
+ */
+public interface UserChangeListener {
+
+    /**
+     * 사용자 변경 이벤트 수신
+     */
+    void onUserChanged(UserChangeEvent event);
+
+    /**
+     * 링 버퍼가 넘쳐 이벤트가 유실된 경우 호출
+     * 유실 구간을 알 수 없는 캐시/인덱스는 전체 무효화해야 합니다.
+     *
+     * @param fromGeneration 유실된 첫 세대 번호
+     * @param toGeneration 유실된 마지막 세대 번호
+     */
+    default void onEventsLost(long fromGeneration, long toGeneration) {
+    }
+}
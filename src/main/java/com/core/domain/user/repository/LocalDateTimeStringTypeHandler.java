@@ -0,0 +1,48 @@
+package com.core.domain.user.repository;
+
+import com.core.common.time.IsoDateTimeWriter;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * DATETIME 컬럼을 ISO-8601 문자열로 바로 읽는 TypeHandler
+ * 응답 DTO의 String 타입 일시 필드를 ResultSet에서 직접 채울 때 사용합니다.
+ * (Entity의 LocalDateTime -> String 변환과 동일한 ISO_LOCAL_DATE_TIME 형식)
+ */
+public class LocalDateTimeStringTypeHandler extends BaseTypeHandler<String> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType)
+            throws SQLException {
+        ps.setTimestamp(i, Timestamp.valueOf(LocalDateTime.parse(parameter)));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return format(rs.getTimestamp(columnName));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return format(rs.getTimestamp(columnIndex));
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return format(cs.getTimestamp(columnIndex));
+    }
+
+    private String format(Timestamp timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        return IsoDateTimeWriter.format(timestamp.toLocalDateTime());
+    }
+}
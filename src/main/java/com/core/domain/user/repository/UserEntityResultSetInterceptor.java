@@ -0,0 +1,102 @@
+package com.core.domain.user.repository;
+
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * UserEntity 결과 매핑 인터셉터 (MyBatis Plugin)
+ * 지정된 Mapped Statement ID의 결과를 MyBatis 기본 매핑(리플렉션 setter + TypeHandler 탐색) 대신
+ * UserEntityRowMapper로 직접 변환합니다.
+ * 컬럼 구성이 예상과 다르거나, ResultHandler/RowBounds를 쓰는 조회, 다중 결과 집합이면 기본 매핑으로 위임합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.row-mapping", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Intercepts(@Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class}))
+public class UserEntityResultSetInterceptor implements Interceptor {
+
+    private static final String NAMESPACE = UserRepository.class.getName() + ".";
+
+    private final Set<String> statementIds = new HashSet<>();
+
+    public UserEntityResultSetInterceptor(
+            @Value("${core.user.row-mapping.statements:findAll,findById,findByUsername,findByEmail,searchUsersWithDynamicQuery}")
+            String[] statements) {
+        for (String statement : statements) {
+            String trimmed = statement.trim();
+            if (!trimmed.isEmpty()) {
+                statementIds.add(trimmed.contains(".") ? trimmed : NAMESPACE + trimmed);
+            }
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MetaObject handler = SystemMetaObject.forObject(unwrap(invocation.getTarget()));
+        if (!handler.hasGetter("mappedStatement")) {
+            return invocation.proceed();
+        }
+        MappedStatement mappedStatement = (MappedStatement) handler.getValue("mappedStatement");
+        if (!statementIds.contains(mappedStatement.getId()) || mappedStatement.getResultSets() != null) {
+            return invocation.proceed();
+        }
+
+        // ResultHandler 콜백 조회, RowBounds 페이징 조회는 기본 매핑이 처리 (행 건너뛰기/콜백 호출)
+        RowBounds rowBounds = (RowBounds) handler.getValue("rowBounds");
+        if (handler.getValue("resultHandler") != null
+                || rowBounds.getOffset() != RowBounds.NO_ROW_OFFSET
+                || rowBounds.getLimit() != RowBounds.NO_ROW_LIMIT) {
+            return invocation.proceed();
+        }
+
+        Statement statement = (Statement) invocation.getArgs()[0];
+        ResultSet rs = statement.getResultSet();
+        if (rs == null || !UserEntityRowMapper.supports(rs.getMetaData())) {
+            return invocation.proceed();
+        }
+
+        try {
+            List<Object> results = new ArrayList<>();
+            while (rs.next()) {
+                results.add(UserEntityRowMapper.mapRow(rs));
+            }
+            return results;
+        } finally {
+            rs.close();
+        }
+    }
+
+    /**
+     * 다른 플러그인이 감싼 프록시를 벗겨 실제 ResultSetHandler 반환
+     */
+    private static Object unwrap(Object target) {
+        Object current = target;
+        while (Proxy.isProxyClass(current.getClass())) {
+            InvocationHandler invocationHandler = Proxy.getInvocationHandler(current);
+            if (!(invocationHandler instanceof Plugin)) {
+                break;
+            }
+            current = SystemMetaObject.forObject(invocationHandler).getValue("target");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,65 @@
+package com.core.domain.user.repository;
+
+import com.core.domain.user.entity.UserEntity;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * UserEntity 전용 수동 Row Mapper
+ * UserRepositorySqlProvider의 고정 컬럼 순서(id, username, email, is_active, status,
+ * order_count, customer_tier, created_at, updated_at, deleted_at)를 인덱스로 읽어 리플렉션 없이 엔티티를 생성합니다.
+ */
+public final class UserEntityRowMapper {
+
+    static final String[] COLUMNS = {
+            "id", "username", "email", "is_active", "status", "order_count", "customer_tier",
+            "created_at", "updated_at", "deleted_at"
+    };
+
+    private UserEntityRowMapper() {
+    }
+
+    /**
+     * ResultSet의 컬럼 구성이 고정 컬럼 순서와 일치하는지 확인
+     * 결과 집합마다 한 번만 호출하며, 일치하지 않으면 기본 MyBatis 매핑을 사용해야 합니다.
+     */
+    public static boolean supports(ResultSetMetaData metaData) throws SQLException {
+        if (metaData.getColumnCount() != COLUMNS.length) {
+            return false;
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (!COLUMNS[i].equalsIgnoreCase(metaData.getColumnLabel(i + 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 행을 UserEntity로 변환
+     */
+    public static UserEntity mapRow(ResultSet rs) throws SQLException {
+        UserEntity entity = new UserEntity();
+
+        long id = rs.getLong(1);
+        entity.setId(rs.wasNull() ? null : id);
+        entity.setUsername(rs.getString(2));
+        entity.setEmail(rs.getString(3));
+
+        boolean isActive = rs.getBoolean(4);
+        entity.setIsActive(rs.wasNull() ? null : isActive);
+        entity.setStatus(rs.getString(5));
+
+        int orderCount = rs.getInt(6);
+        entity.setOrderCount(rs.wasNull() ? null : orderCount);
+        entity.setCustomerTier(rs.getString(7));
+
+        entity.setCreatedAt(rs.getObject(8, LocalDateTime.class));
+        entity.setUpdatedAt(rs.getObject(9, LocalDateTime.class));
+        entity.setDeletedAt(rs.getObject(10, LocalDateTime.class));
+        return entity;
+    }
+}
@@ -1,9 +1,12 @@
 package com.core.domain.user.repository;
 
+import com.core.common.cache.SerializedLruCache;
+import com.core.domain.user.dto.UserResponseDto;
 import com.core.domain.user.entity.UserEntity;
 import com.core.model.UserSearchCriteria;
 import org.apache.ibatis.annotations.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -11,8 +14,18 @@ import java.util.Map;
  * 사용자 Repository (MyBatis Mapper) - SQL Builder 방식으로 변경
  * 도메인 방식의 패키지 구조에 따른 Repository 인터페이스
  * XML 대신 @SelectProvider, @InsertProvider 등을 사용
+ *
+ * 2차 캐시: statements에 지정한 조회만 캐시하며, 이 namespace의 INSERT/UPDATE/DELETE 커밋 시 무효화됩니다.
+ * 설정은 mybatis.configuration-properties의 user-query-cache.* 값을 사용합니다.
  */
 @Mapper
+@CacheNamespace(implementation = SerializedLruCache.class, properties = {
+        @Property(name = "enabled", value = "${user-query-cache.enabled:false}"),
+        @Property(name = "statements", value = "${user-query-cache.statements:count,countUsersWithDynamicQuery,searchUsersWithDynamicQuery}"),
+        @Property(name = "size", value = "${user-query-cache.size:1000}"),
+        @Property(name = "maxBytes", value = "${user-query-cache.max-bytes:16777216}"),
+        @Property(name = "ttlMillis", value = "${user-query-cache.ttl-millis:10000}")
+})
 public interface UserRepository {
 
     // ==================== 기본 CRUD 메서드 (SQL Builder) ====================
@@ -31,6 +44,7 @@ public interface UserRepository {
         @Result(property = "isActive", column = "is_active"),
         @Result(property = "status", column = "status"),
         @Result(property = "orderCount", column = "order_count"),
+        @Result(property = "customerTier", column = "customer_tier"),
         @Result(property = "createdAt", column = "created_at"),
         @Result(property = "updatedAt", column = "updated_at"),
         @Result(property = "deletedAt", column = "deleted_at")
@@ -39,7 +53,7 @@ public interface UserRepository {
 
     /**
      * ID로 사용자 조회
-     * 지정된 ID의 사용자를 조회합니다. 삭제된 사용자도 포함됩니다.
+     * 지정된 ID의 사용자를 조회합니다. 삭제(soft delete)된 사용자는 제외됩니다.
      *
      * @param id 조회할 사용자 ID
      * @return UserEntity 사용자 엔티티 (존재하지 않으면 null)
@@ -50,7 +64,7 @@ public interface UserRepository {
 
     /**
      * 사용자명으로 사용자 조회
-     * 지정된 사용자명으로 사용자를 조회합니다.
+     * 지정된 사용자명으로 사용자를 조회합니다 삭제(soft delete)된 사용자는 제외됩니다.
      *
      * @param username 조회할 사용자명
      * @return UserEntity 사용자 엔티티 (존재하지 않으면 null)
@@ -61,7 +75,7 @@ public interface UserRepository {
 
     /**
      * 이메일로 사용자 조회
-     * 지정된 이메일로 사용자를 조회합니다.
+     * 지정된 이메일로 사용자를 조회합니다 삭제(soft delete)된 사용자는 제외됩니다.
      *
      * @param email 조회할 이메일
      * @return UserEntity 사용자 엔티티 (존재하지 않으면 null)
@@ -82,6 +96,17 @@ public interface UserRepository {
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(UserEntity user);
 
+    /**
+     * 여러 사용자 등록 (multi-row INSERT, 그룹 커밋용)
+     * insert와 같은 컬럼을 한 문장으로 등록하고, 자동 생성된 ID를 각 엔티티에 설정합니다.
+     *
+     * @param users 등록할 사용자 엔티티 리스트
+     * @return int 등록된 사용자 수
+     */
+    @InsertProvider(type = UserRepositorySqlProvider.class, method = "insertAll")
+    @Options(useGeneratedKeys = true, keyProperty = "list.id")
+    int insertAll(@Param("list") List<UserEntity> users);
+
     /**
      * 사용자 정보 수정
      * 기존 사용자의 정보를 수정합니다.
@@ -94,14 +119,14 @@ public interface UserRepository {
     int update(UserEntity user);
 
     /**
-     * 사용자 삭제
-     * 지정된 ID의 사용자를 물리적으로 삭제합니다.
-     * (주의: soft delete가 아닌 hard delete)
+     * 사용자 삭제 (soft delete)
+     * 지정된 ID 사용자의 deleted_at을 현재 시간으로 설정합니다.
+     * 보존 기간이 지나면 UserArchiver가 users_archive로 옮깁니다.
      *
      * @param id 삭제할 사용자 ID
-     * @return int 영향을 받은 행 수 (1: 성공, 0: 실패)
+     * @return int 영향을 받은 행 수 (1: 성공, 0: 없거나 이미 삭제됨)
      */
-    @DeleteProvider(type = UserRepositorySqlProvider.class, method = "deleteById")
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "deleteById")
     int deleteById(@Param("id") Long id);
 
     /**
@@ -179,38 +204,242 @@ public interface UserRepository {
      * 여러 사용자를 한 번의 쿼리로 등록하여 성능을 최적화합니다.
      * INSERT INTO users (...) VALUES (...), (...), (...) 형태의 쿼리가 실행됩니다.
      *
+     * 자동 생성된 ID를 리스트의 각 엔티티에 순서대로 설정합니다 (useGeneratedKeys, keyProperty = list.id).
+     *
      * @param users 등록할 사용자 엔티티 리스트
      * @return int 등록된 사용자 수
      */
     @InsertProvider(type = UserRepositorySqlProvider.class, method = "batchInsertUsers")
+    @Options(useGeneratedKeys = true, keyProperty = "list.id")
     int batchInsertUsers(@Param("list") List<UserEntity> users);
 
     /**
-     * 동적 조건으로 사용자 삭제
-     * 다양한 조건으로 여러 사용자를 삭제합니다.
+     * 사용자명 목록으로 사용자 ID 조회 (삭제된 사용자 제외, upsert 후 생성된 ID 확인용)
+     *
+     * @param usernames 사용자명 리스트
+     * @return List&lt;UserEntity&gt; 일치하는 사용자 (id, username만 채워짐)
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findIdsByUsernames")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> findIdsByUsernames(@Param("usernames") List<String> usernames);
+
+    /**
+     * 사용자명 또는 이메일 목록으로 사용자 조회 (삭제된 사용자 제외)
+     *
+     * @param usernames 사용자명 리스트
+     * @param emails 이메일 리스트
+     * @return List<UserEntity> username 또는 email이 일치하는 사용자 엔티티 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findByUsernamesOrEmails")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> findByUsernamesOrEmails(@Param("usernames") List<String> usernames,
+                                             @Param("emails") List<String> emails);
+
+    /**
+     * username 기준 upsert (INSERT ... ON DUPLICATE KEY UPDATE)
+     * users.username_live 유니크 인덱스가 필요합니다 (db/user/003_users_username_unique.sql).
+     * email 유니크 인덱스와 충돌하면 다른 행이 UPDATE되므로, 호출 측에서 이메일 충돌 항목을 먼저 제외해야 합니다.
+     * 삭제(soft delete)된 사용자와 같은 사용자명이면 복구하지 않고 새 사용자로 생성합니다.
+     * 첫 항목에 ID가 있으면 모든 행의 ID를 직접 지정합니다 (ID 할당기 사용 시, 기존 행은 기존 ID).
+     *
+     * @param users 사용자 엔티티 리스트 (id, username, email, isActive, status)
+     * @return int MySQL 영향 행 수 (행별 생성/수정/변경없음 구분은 호출 측에서 처리)
+     */
+    @InsertProvider(type = UserRepositorySqlProvider.class, method = "upsertUsers")
+    int upsertUsers(@Param("list") List<UserEntity> users);
+
+    /**
+     * 대량 부분 수정 (단일 UPDATE 문)
+     * 항목별 값을 CASE id WHEN ... THEN ... END로 묶어 한 번에 수정합니다.
+     * 전달되는 항목은 모두 같은 변경 컬럼 조합(isActive, status 중 null이 아닌 필드)이어야 합니다.
+     *
+     * @param items 수정 항목 엔티티 리스트 (id, 변경할 isActive/status)
+     * @return int 수정된 사용자 수
+     */
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "bulkUpdateUsers")
+    int bulkUpdateUsers(@Param("items") List<UserEntity> items);
+
+    /**
+     * ID 목록 중 삭제되지 않은 사용자 ID를 잠그고 조회 (FOR UPDATE)
+     *
+     * @param ids 사용자 ID 리스트
+     * @return List<Long> 존재하는 사용자 ID 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "lockActiveIds")
+    List<Long> lockActiveIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 동적 조건으로 사용자 삭제 (soft delete)
+     * 다양한 조건으로 여러 사용자의 deleted_at을 설정합니다.
      * (주의: 조건에 맞는 모든 사용자가 삭제되므로 신중하게 사용)
      *
      * @param criteria 삭제 조건 객체 (ids, startDate, endDate, userStatus 등)
      * @return int 삭제된 사용자 수
      */
-    @DeleteProvider(type = UserRepositorySqlProvider.class, method = "deleteUsersDynamically")
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "deleteUsersDynamically")
     int deleteUsersDynamically(UserSearchCriteria criteria);
 
+    /**
+     * 대량 삭제 대상 조회 (키셋 스캔)
+     * deleteUsersDynamically와 같은 조건으로 afterId 다음부터 ID 오름차순으로 limit건을 조회합니다.
+     * id, username만 채워진 엔티티를 반환합니다.
+     *
+     * @param criteria 삭제 조건 객체 (ids, startDate, endDate, userStatus)
+     * @param afterId 이전 청크의 마지막 ID (처음에는 0)
+     * @param limit 청크 크기
+     * @return List<UserEntity> 삭제 대상 사용자 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findBulkDeleteTargets")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> findBulkDeleteTargets(@Param("criteria") UserSearchCriteria criteria,
+                                           @Param("afterId") long afterId,
+                                           @Param("limit") int limit);
+
+    /**
+     * 대량 삭제 청크 대상 중 아직 삭제 조건에 맞는 사용자를 잠그고 조회 (FOR UPDATE)
+     *
+     * @param criteria 삭제 조건
+     * @param ids 청크 대상 사용자 ID 리스트
+     * @return List&lt;UserEntity&gt; 잠긴 사용자 (id, username만 채워짐)
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "lockBulkDeleteTargets")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> lockBulkDeleteTargets(@Param("criteria") UserSearchCriteria criteria,
+                                           @Param("ids") List<Long> ids);
+
+    /**
+     * ID 목록 중 삭제 조건에 맞는 사용자 삭제 (soft delete)
+     *
+     * @param criteria 삭제 조건
+     * @param ids 사용자 ID 리스트
+     * @return int 삭제된 사용자 수 (이미 삭제되었거나 조건에서 벗어난 사용자 제외)
+     */
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "softDeleteByIds")
+    int softDeleteByIds(@Param("criteria") UserSearchCriteria criteria,
+                        @Param("ids") List<Long> ids);
+
+    // ==================== 아카이브 (users_archive) ====================
+
+    /**
+     * 아카이브 대상 ID 조회
+     * deletedBefore 이전에 삭제된 사용자 ID를 오름차순으로 최대 limit건 조회합니다.
+     *
+     * @param deletedBefore 삭제 시각 기준 (이 시각 이전에 삭제된 사용자)
+     * @param limit 최대 조회 건수
+     * @return List<Long> 사용자 ID 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findArchivableIds")
+    List<Long> findArchivableIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    /**
+     * 삭제 사용자를 users_archive로 복사 (INSERT ... SELECT)
+     *
+     * @param ids 사용자 ID 리스트
+     * @return int 복사된 행 수
+     */
+    @InsertProvider(type = UserRepositorySqlProvider.class, method = "copyToArchive")
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    /**
+     * 아카이브로 복사된 삭제 사용자를 users에서 물리 삭제
+     *
+     * @param ids 사용자 ID 리스트
+     * @return int 삭제된 행 수
+     */
+    @DeleteProvider(type = UserRepositorySqlProvider.class, method = "purgeArchived")
+    int purgeArchived(@Param("ids") List<Long> ids);
+
+    // ==================== 자동 완성 (suggest) ====================
+
+    /**
+     * 활성 사용자명 조회 (키셋 스캔)
+     * 활성(is_active = true, 삭제되지 않음) 사용자를 afterId 다음부터 ID 오름차순으로 limit건 조회합니다.
+     * id, username만 채워진 엔티티를 반환합니다.
+     *
+     * @param afterId 이전 청크의 마지막 ID (처음에는 0)
+     * @param limit 청크 크기
+     * @return List<UserEntity> 활성 사용자 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findActiveUsernames")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> findActiveUsernames(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * ID 목록으로 사용자명/활성 여부 조회
+     * id, username, isActive만 채워진 엔티티를 반환합니다. (삭제된 사용자 제외)
+     *
+     * @param ids 사용자 ID 리스트
+     * @return List<UserEntity> 사용자 리스트
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findUsernameStatesByIds")
+    @ResultMap("userEntityResultMap")
+    List<UserEntity> findUsernameStatesByIds(@Param("ids") List<Long> ids);
+
+    // ==================== 고객 등급 (customer_tier) ====================
+
+    /**
+     * 주문 수 증감 + 고객 등급 동기화
+     * order_count를 delta만큼 원자적으로 증감하고(0 미만으로 내려가지 않음),
+     * 같은 UPDATE 문에서 CustomerTier 기준으로 customer_tier를 다시 계산합니다.
+     *
+     * @param id 사용자 ID
+     * @param delta 주문 수 증감량 (주문 생성: +1, 주문 취소: -1)
+     * @return int 영향을 받은 행 수 (0: 사용자 없음)
+     */
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "applyOrderCountDelta")
+    int applyOrderCountDelta(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 고객 등급 백필 (ID 구간 단위)
+     * 지정된 ID 구간에서 order_count 기준 등급과 다른 customer_tier만 갱신합니다.
+     *
+     * @param fromId 시작 ID (포함)
+     * @param toId 끝 ID (포함)
+     * @return int 갱신된 행 수
+     */
+    @UpdateProvider(type = UserRepositorySqlProvider.class, method = "backfillCustomerTier")
+    int backfillCustomerTier(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 최대 사용자 ID 조회
+     *
+     * @return long 최대 ID (사용자가 없으면 0)
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findMaxId")
+    long findMaxId();
+
+    /**
+     * users 테이블 쓰기 세대 조회 (db/user/006_users_write_generation.sql)
+     *
+     * @return Long 세대 번호 (세대 행이 없으면 null)
+     */
+    @SelectProvider(type = UserRepositorySqlProvider.class, method = "findWriteGeneration")
+    Long findWriteGeneration();
+
     /**
      * 주문 정보와 통계를 포함한 사용자 검색 (복잡한 JOIN)
      * 사용자 정보와 주문 통계를 LEFT JOIN으로 조회합니다.
+     * 삭제(soft delete)된 사용자는 includeDeleted=true 인 경우에만 포함됩니다.
      * - orderCount: 주문 수
      * - totalAmount: 총 주문 금액
-     * - customerTier: 고객 등급 (VIP, PREMIUM, REGULAR, NORMAL)
+     * - customerTier: 고객 등급 (VIP, PREMIUM, REGULAR, NORMAL) - users.customer_tier 컬럼
+     *
+     * 중간 Map 없이 ResultSet에서 WithStats DTO로 바로 매핑합니다.
+     * order_count, total_amount는 COALESCE로 NULL이 아님이 보장되므로 int/double로 바로 읽습니다.
      *
      * @param criteria 검색 조건 객체
-     * @return List<Map<String, Object>> 사용자 정보와 주문 통계를 담은 Map 리스트
-     *         각 Map의 키:
-     *         - id, username, email, created_at: 사용자 기본 정보
-     *         - order_count: 주문 수
-     *         - total_amount: 총 주문 금액
-     *         - customer_tier: 고객 등급
+     * @return List<UserResponseDto.WithStats> 주문 통계가 포함된 사용자 DTO 리스트
      */
     @SelectProvider(type = UserRepositorySqlProvider.class, method = "searchUsersWithOrdersAndStats")
-    List<Map<String, Object>> searchUsersWithOrdersAndStats(UserSearchCriteria criteria);
+    @Results(id = "userWithStatsResultMap", value = {
+        @Result(property = "id", column = "id", id = true),
+        @Result(property = "username", column = "username"),
+        @Result(property = "email", column = "email"),
+        @Result(property = "orderCount", column = "order_count"),
+        @Result(property = "totalAmount", column = "total_amount"),
+        @Result(property = "customerTier", column = "customer_tier"),
+        @Result(property = "createdAt", column = "created_at",
+                typeHandler = LocalDateTimeStringTypeHandler.class)
+    })
+    List<UserResponseDto.WithStats> searchUsersWithOrdersAndStats(UserSearchCriteria criteria);
 }
@@ -1,6 +1,7 @@
 package com.core.domain.user.repository;
 
 import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.vo.CustomerTier;
 import com.core.model.UserSearchCriteria;
 import org.apache.ibatis.jdbc.SQL;
 
@@ -13,6 +14,10 @@ import java.util.Map;
  */
 public class UserRepositorySqlProvider {
 
+    // users / users_archive 공통 컬럼
+    private static final String USER_COLUMNS =
+            "id, username, email, is_active, status, order_count, customer_tier, created_at, updated_at, deleted_at";
+
     // ==================== 기본 CRUD SQL Builder 메서드 ====================
 
     /**
@@ -20,7 +25,7 @@ public class UserRepositorySqlProvider {
      */
     public String findAll() {
         return new SQL() {{
-            SELECT("id", "username", "email", "is_active", "status", "order_count",
+            SELECT("id", "username", "email", "is_active", "status", "order_count", "customer_tier",
                    "created_at", "updated_at", "deleted_at");
             FROM("users");
             WHERE("deleted_at IS NULL");
@@ -29,38 +34,41 @@ public class UserRepositorySqlProvider {
     }
 
     /**
-     * ID로 사용자 조회
+     * ID로 사용자 조회 (삭제된 사용자 제외)
      */
     public String findById() {
         return new SQL() {{
-            SELECT("id", "username", "email", "is_active", "status", "order_count",
+            SELECT("id", "username", "email", "is_active", "status", "order_count", "customer_tier",
                    "created_at", "updated_at", "deleted_at");
             FROM("users");
             WHERE("id = #{id}");
+            WHERE("deleted_at IS NULL");
         }}.toString();
     }
 
     /**
-     * 사용자명으로 사용자 조회
+     * 사용자명으로 사용자 조회 (삭제된 사용자 제외)
      */
     public String findByUsername() {
         return new SQL() {{
-            SELECT("id", "username", "email", "is_active", "status", "order_count",
+            SELECT("id", "username", "email", "is_active", "status", "order_count", "customer_tier",
                    "created_at", "updated_at", "deleted_at");
             FROM("users");
             WHERE("username = #{username}");
+            WHERE("deleted_at IS NULL");
         }}.toString();
     }
 
     /**
-     * 이메일로 사용자 조회
+     * 이메일로 사용자 조회 (삭제된 사용자 제외)
      */
     public String findByEmail() {
         return new SQL() {{
-            SELECT("id", "username", "email", "is_active", "status", "order_count",
+            SELECT("id", "username", "email", "is_active", "status", "order_count", "customer_tier",
                    "created_at", "updated_at", "deleted_at");
             FROM("users");
             WHERE("email = #{email}");
+            WHERE("deleted_at IS NULL");
         }}.toString();
     }
 
@@ -70,6 +78,10 @@ public class UserRepositorySqlProvider {
     public String insert(UserEntity user) {
         return new SQL() {{
             INSERT_INTO("users");
+            // ID 할당기(IdBlockAllocator)를 쓰는 경우 ID를 직접 지정
+            if (user.getId() != null) {
+                VALUES("id", "#{id}");
+            }
             VALUES("username", "#{username}");
             VALUES("email", "#{email}");
             VALUES("is_active", "#{isActive}");
@@ -78,6 +90,36 @@ public class UserRepositorySqlProvider {
         }}.toString();
     }
 
+    /**
+     * 여러 사용자 등록 (multi-row INSERT, insert와 같은 컬럼)
+     */
+    public String insertAll(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<UserEntity> users = (List<UserEntity>) params.get("list");
+
+        boolean explicitIds = users.get(0).getId() != null;
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("INSERT INTO users (")
+           .append(explicitIds ? "id, " : "")
+           .append("username, email, is_active, status, created_at) VALUES ");
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(");
+            if (explicitIds) {
+                sql.append("#{list[").append(i).append("].id}, ");
+            }
+            sql.append("#{list[").append(i).append("].username}, ")
+               .append("#{list[").append(i).append("].email}, ")
+               .append("#{list[").append(i).append("].isActive}, ")
+               .append("#{list[").append(i).append("].status}, ")
+               .append("NOW())");
+        }
+        return sql.toString();
+    }
+
     /**
      * 사용자 정보 수정
      */
@@ -94,12 +136,15 @@ public class UserRepositorySqlProvider {
     }
 
     /**
-     * 사용자 삭제
+     * 사용자 삭제 (soft delete)
      */
     public String deleteById() {
         return new SQL() {{
-            DELETE_FROM("users");
+            UPDATE("users");
+            SET("deleted_at = NOW()");
+            SET("updated_at = NOW()");
             WHERE("id = #{id}");
+            WHERE("deleted_at IS NULL");
         }}.toString();
     }
 
@@ -145,9 +190,9 @@ public class UserRepositorySqlProvider {
      */
     public String searchUsersWithDynamicQuery(UserSearchCriteria criteria) {
         return new SQL() {{
-            SELECT("u.id", "u.username", "u.email", "u.is_active", "u.status", "u.order_count",
+            SELECT("u.id", "u.username", "u.email", "u.is_active", "u.status", "u.order_count", "u.customer_tier",
                    "u.created_at", "u.updated_at", "u.deleted_at");
-            FROM("users u");
+            FROM(usersSource(criteria));
 
             // 동적 WHERE 조건 적용
             applyWhereConditions(this, criteria);
@@ -171,7 +216,7 @@ public class UserRepositorySqlProvider {
     public String countUsersWithDynamicQuery(UserSearchCriteria criteria) {
         return new SQL() {{
             SELECT("COUNT(*)");
-            FROM("users u");
+            FROM(usersSource(criteria));
             applyWhereConditions(this, criteria);
         }}.toString();
     }
@@ -204,21 +249,142 @@ public class UserRepositorySqlProvider {
         }}.toString();
     }
 
+    /**
+     * 사용자명 목록으로 사용자 ID 조회 (삭제된 사용자 포함)
+     */
+    public String findIdsByUsernames(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<String> usernames = (List<String>) params.get("usernames");
+
+        return new SQL() {{
+            SELECT("id", "username");
+            FROM("users");
+            WHERE("username IN (" + buildInClause(usernames.size(), "usernames") + ")");
+            WHERE("deleted_at IS NULL");
+        }}.toString();
+    }
+
+    /**
+     * 사용자명 또는 이메일 목록으로 사용자 조회 (삭제된 사용자 제외)
+     */
+    public String findByUsernamesOrEmails(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<String> usernames = (List<String>) params.get("usernames");
+        @SuppressWarnings("unchecked")
+        List<String> emails = (List<String>) params.get("emails");
+
+        return new SQL() {{
+            SELECT(USER_COLUMNS);
+            FROM("users");
+            WHERE("(username IN (" + buildInClause(usernames.size(), "usernames") + ")"
+                  + " OR email IN (" + buildInClause(emails.size(), "emails") + "))");
+            WHERE("deleted_at IS NULL");
+        }}.toString();
+    }
+
+    /**
+     * username 기준 upsert (INSERT ... ON DUPLICATE KEY UPDATE)
+     * - 없으면 생성, 있으면 스냅샷 값으로 덮어씁니다.
+     *   유니크 인덱스가 삭제되지 않은 사용자만 대상으로 하므로, 삭제(soft delete)된 사용자와 같은 사용자명은 새로 생성됩니다.
+     * - 값이 모두 같으면 updated_at도 그대로 둡니다 (MySQL은 SET을 왼쪽부터 평가하므로 updated_at을 먼저 설정).
+     */
+    public String upsertUsers(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<UserEntity> users = (List<UserEntity>) params.get("list");
+
+        boolean explicitIds = users.get(0).getId() != null;
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("INSERT INTO users (")
+           .append(explicitIds ? "id, " : "")
+           .append("username, email, is_active, status, created_at) VALUES ");
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(");
+            if (explicitIds) {
+                sql.append("#{list[").append(i).append("].id}, ");
+            }
+            sql.append("#{list[").append(i).append("].username}, ")
+               .append("#{list[").append(i).append("].email}, ")
+               .append("#{list[").append(i).append("].isActive}, ")
+               .append("#{list[").append(i).append("].status}, ")
+               .append("NOW())");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE ")
+           .append("updated_at = IF(email <=> VALUES(email) AND is_active <=> VALUES(is_active) ")
+           .append("AND status <=> VALUES(status), updated_at, NOW()), ")
+           .append("email = VALUES(email), ")
+           .append("is_active = VALUES(is_active), ")
+           .append("status = VALUES(status)");
+
+        return sql.toString();
+    }
+
+    /**
+     * 대량 부분 수정 (UPDATE ... SET col = CASE id WHEN ... END)
+     * 한 번의 호출에 전달되는 항목은 모두 같은 변경 컬럼 조합이어야 합니다.
+     */
+    public String bulkUpdateUsers(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<UserEntity> items = (List<UserEntity>) params.get("items");
+        UserEntity first = items.get(0);
+
+        return new SQL() {{
+            UPDATE("users");
+            if (first.getIsActive() != null) {
+                SET("is_active = " + buildCaseById(items.size(), "isActive"));
+            }
+            if (first.getStatus() != null) {
+                SET("status = " + buildCaseById(items.size(), "status"));
+            }
+            SET("updated_at = NOW()");
+            WHERE("id IN (" + buildInClause(items.size(), "items", "id") + ")");
+            WHERE("deleted_at IS NULL");
+        }}.toString();
+    }
+
+    /**
+     * ID 목록 중 삭제되지 않은 사용자 ID 잠금 조회
+     * 같은 트랜잭션의 수정이 끝날 때까지 대상 행을 잠급니다 (FOR UPDATE).
+     */
+    public String lockActiveIds(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return new SQL() {{
+            SELECT("id");
+            FROM("users");
+            WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+            WHERE("deleted_at IS NULL");
+            ORDER_BY("id");
+        }}.toString() + " FOR UPDATE";
+    }
+
     /**
      * 대량 사용자 등록
      */
     public String batchInsertUsers(Map<String, Object> params) {
         @SuppressWarnings("unchecked")
-        List<Map<String, Object>> users = (List<Map<String, Object>>) params.get("list");
+        List<UserEntity> users = (List<UserEntity>) params.get("list");
+
+        boolean explicitIds = users.get(0).getId() != null;
 
         StringBuilder sql = new StringBuilder();
-        sql.append("INSERT INTO users (username, email, is_active, created_at) VALUES ");
+        sql.append("INSERT INTO users (")
+           .append(explicitIds ? "id, " : "")
+           .append("username, email, is_active, created_at) VALUES ");
 
         for (int i = 0; i < users.size(); i++) {
             if (i > 0) {
                 sql.append(", ");
             }
-            sql.append("(#{list[").append(i).append("].username}, ")
+            sql.append("(");
+            if (explicitIds) {
+                sql.append("#{list[").append(i).append("].id}, ");
+            }
+            sql.append("#{list[").append(i).append("].username}, ")
                .append("#{list[").append(i).append("].email}, ")
                .append("#{list[").append(i).append("].isActive}, ")
                .append("NOW())");
@@ -228,41 +394,86 @@ public class UserRepositorySqlProvider {
     }
 
     /**
-     * 동적 조건으로 사용자 삭제
+     * 동적 조건으로 사용자 삭제 (soft delete)
      */
     public String deleteUsersDynamically(UserSearchCriteria criteria) {
         return new SQL() {{
-            DELETE_FROM("users");
+            UPDATE("users");
+            SET("deleted_at = NOW()");
+            SET("updated_at = NOW()");
+            WHERE("deleted_at IS NULL");
+            applyDeleteConditions(this, criteria, "");
+        }}.toString();
+    }
 
-            if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
-                WHERE("id IN (" + buildInClause(criteria.getIds().size(), "ids") + ")");
-            }
+    /**
+     * 대량 삭제 대상 조회 (키셋 스캔)
+     * deleteUsersDynamically와 같은 조건으로 afterId 다음부터 ID 순으로 limit건을 조회합니다.
+     */
+    public String findBulkDeleteTargets(Map<String, Object> params) {
+        UserSearchCriteria criteria = (UserSearchCriteria) params.get("criteria");
 
-            if (criteria.getStartDate() != null && criteria.getEndDate() != null) {
-                WHERE("created_at BETWEEN #{startDate} AND #{endDate}");
-            }
+        return new SQL() {{
+            SELECT("id", "username");
+            FROM("users");
+            WHERE("id > #{afterId}");
+            WHERE("deleted_at IS NULL");
+            applyDeleteConditions(this, criteria, "criteria.");
+            ORDER_BY("id");
+            LIMIT("#{limit}");
+        }}.toString();
+    }
 
-            if (criteria.getUserStatus() != null && !criteria.getUserStatus().isEmpty()) {
-                WHERE("status = #{userStatus}");
-            }
+    /**
+     * 대량 삭제 청크 대상 잠금 조회
+     * 조회 이후 삭제되었거나 조건에서 벗어난 행을 제외하고, 같은 트랜잭션의 삭제가 끝날 때까지 잠급니다 (FOR UPDATE).
+     */
+    public String lockBulkDeleteTargets(Map<String, Object> params) {
+        UserSearchCriteria criteria = (UserSearchCriteria) params.get("criteria");
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return new SQL() {{
+            SELECT("id", "username");
+            FROM("users");
+            WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+            WHERE("deleted_at IS NULL");
+            applyDeleteConditions(this, criteria, "criteria.");
+            ORDER_BY("id");
+        }}.toString() + " FOR UPDATE";
+    }
+
+    /**
+     * ID 목록으로 사용자 삭제 (soft delete)
+     * 대상 조회 이후 상태/생성일이 바뀐 행이 삭제되지 않도록 삭제 조건을 다시 적용합니다.
+     */
+    public String softDeleteByIds(Map<String, Object> params) {
+        UserSearchCriteria criteria = (UserSearchCriteria) params.get("criteria");
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return new SQL() {{
+            UPDATE("users");
+            SET("deleted_at = NOW()");
+            SET("updated_at = NOW()");
+            WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+            WHERE("deleted_at IS NULL");
+            applyDeleteConditions(this, criteria, "criteria.");
         }}.toString();
     }
 
     /**
      * 주문 정보와 통계를 포함한 사용자 검색
+     * 삭제된 사용자는 includeDeleted=true 인 경우에만 포함합니다 (searchUsersWithDynamicQuery와 동일).
      */
     public String searchUsersWithOrdersAndStats(UserSearchCriteria criteria) {
         return new SQL() {{
             SELECT("u.id", "u.username", "u.email", "u.created_at");
             SELECT("COALESCE(o.order_count, 0) AS order_count");
             SELECT("COALESCE(o.total_amount, 0) AS total_amount");
-            SELECT("CASE " +
-                   "WHEN COALESCE(o.order_count, 0) >= 100 THEN 'VIP' " +
-                   "WHEN COALESCE(o.order_count, 0) >= 50 THEN 'PREMIUM' " +
-                   "WHEN COALESCE(o.order_count, 0) >= 10 THEN 'REGULAR' " +
-                   "ELSE 'NORMAL' END AS customer_tier");
+            SELECT("u.customer_tier");
 
-            FROM("users u");
+            FROM(usersSource(criteria));
 
             if (criteria.getHasOrders() == null || criteria.getHasOrders()) {
                 LEFT_OUTER_JOIN("(" +
@@ -289,11 +500,11 @@ public class UserRepositorySqlProvider {
             }
 
             if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-                WHERE("(CASE " +
-                      "WHEN COALESCE(o.order_count, 0) >= 100 THEN 'VIP' " +
-                      "WHEN COALESCE(o.order_count, 0) >= 50 THEN 'PREMIUM' " +
-                      "WHEN COALESCE(o.order_count, 0) >= 10 THEN 'REGULAR' " +
-                      "ELSE 'NORMAL' END) = #{priorityLevel}");
+                WHERE("u.customer_tier = #{priorityLevel}");
+            }
+
+            if (criteria.getIncludeDeleted() == null || !criteria.getIncludeDeleted()) {
+                WHERE("u.deleted_at IS NULL");
             }
 
             applyOrderBy(this, criteria);
@@ -307,8 +518,190 @@ public class UserRepositorySqlProvider {
         }}.toString();
     }
 
+    // ==================== 고객 등급 (customer_tier) ====================
+
+    /**
+     * 주문 수 변경 + 고객 등급 동기화
+     * order_count를 원자적으로 증감하고, 같은 문장에서 새 주문 수로 customer_tier를 다시 계산합니다.
+     * (MySQL은 SET 절을 왼쪽부터 평가하므로 customer_tier를 order_count보다 먼저 설정)
+     */
+    public String applyOrderCountDelta() {
+        return new SQL() {{
+            UPDATE("users");
+            SET("customer_tier = " + customerTierCase("GREATEST(order_count + #{delta}, 0)"));
+            SET("order_count = GREATEST(order_count + #{delta}, 0)");
+            SET("updated_at = NOW()");
+            WHERE("id = #{id}");
+        }}.toString();
+    }
+
+    /**
+     * 고객 등급 백필 (ID 구간 단위)
+     * order_count 기준 등급과 저장된 customer_tier가 다른 행만 갱신합니다.
+     */
+    public String backfillCustomerTier() {
+        String tierCase = customerTierCase("order_count");
+        return new SQL() {{
+            UPDATE("users");
+            SET("customer_tier = " + tierCase);
+            WHERE("id BETWEEN #{fromId} AND #{toId}");
+            WHERE("(customer_tier IS NULL OR customer_tier <> " + tierCase + ")");
+        }}.toString();
+    }
+
+    /**
+     * 최대 사용자 ID 조회 (백필 구간 계산용)
+     */
+    public String findMaxId() {
+        return new SQL() {{
+            SELECT("COALESCE(MAX(id), 0)");
+            FROM("users");
+        }}.toString();
+    }
+
+    /**
+     * users 테이블 쓰기 세대 조회 (트리거가 users 쓰기마다 증가시키는 단일 행)
+     */
+    public String findWriteGeneration() {
+        return new SQL() {{
+            SELECT("generation");
+            FROM("users_write_generation");
+            WHERE("id = 1");
+        }}.toString();
+    }
+
+    // ==================== 아카이브 (users_archive) ====================
+
+    /**
+     * 보존 기간이 지난 삭제 사용자 ID 조회 (아카이브 대상)
+     * deleted_at 인덱스 범위 조회 후 ID 순으로 limit건만 가져오며,
+     * 같은 트랜잭션의 복사/삭제가 끝날 때까지 대상 행을 잠급니다 (FOR UPDATE).
+     */
+    public String findArchivableIds() {
+        return new SQL() {{
+            SELECT("id");
+            FROM("users");
+            WHERE("deleted_at IS NOT NULL");
+            WHERE("deleted_at < #{deletedBefore}");
+            ORDER_BY("id");
+            LIMIT("#{limit}");
+        }}.toString() + " FOR UPDATE";
+    }
+
+    /**
+     * 삭제 사용자를 users_archive로 복사
+     */
+    public String copyToArchive(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return "INSERT INTO users_archive (" + USER_COLUMNS + ", archived_at) " +
+               new SQL() {{
+                   SELECT(USER_COLUMNS);
+                   SELECT("NOW()");
+                   FROM("users");
+                   WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+                   WHERE("deleted_at IS NOT NULL");
+               }}.toString();
+    }
+
+    /**
+     * 아카이브로 복사된 삭제 사용자를 users에서 제거
+     */
+    public String purgeArchived(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return new SQL() {{
+            DELETE_FROM("users");
+            WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+            WHERE("deleted_at IS NOT NULL");
+        }}.toString();
+    }
+
+    // ==================== 자동 완성 (suggest) ====================
+
+    /**
+     * 활성 사용자명 키셋 조회
+     */
+    public String findActiveUsernames() {
+        return new SQL() {{
+            SELECT("id", "username");
+            FROM("users");
+            WHERE("id > #{afterId}");
+            WHERE("is_active = true");
+            WHERE("deleted_at IS NULL");
+            ORDER_BY("id");
+            LIMIT("#{limit}");
+        }}.toString();
+    }
+
+    /**
+     * ID 목록으로 사용자명/활성 여부 조회
+     */
+    public String findUsernameStatesByIds(Map<String, Object> params) {
+        @SuppressWarnings("unchecked")
+        List<Long> ids = (List<Long>) params.get("ids");
+
+        return new SQL() {{
+            SELECT("id", "username", "is_active");
+            FROM("users");
+            WHERE("id IN (" + buildInClause(ids.size(), "ids") + ")");
+            WHERE("deleted_at IS NULL");
+        }}.toString();
+    }
+
     // ==================== 헬퍼 메서드 ====================
 
+    /**
+     * 검색 대상 테이블
+     * includeDeleted=true 인 경우에만 users_archive를 UNION ALL로 합칩니다.
+     * (아카이브된 행은 users에서 제거되므로 두 테이블 사이에 중복 행은 없습니다)
+     */
+    private static String usersSource(UserSearchCriteria criteria) {
+        if (criteria.getIncludeDeleted() == null || !criteria.getIncludeDeleted()) {
+            return "users u";
+        }
+        return "(SELECT " + USER_COLUMNS + " FROM users " +
+               "UNION ALL SELECT " + USER_COLUMNS + " FROM users_archive) u";
+    }
+
+
+    /**
+     * 주문 수 식(expression)으로 고객 등급을 계산하는 CASE 절 생성
+     * 등급 기준은 CustomerTier.fromOrderCount와 같도록 CustomerTier의 최소 주문 수에서 만듭니다.
+     */
+    static String customerTierCase(String orderCountExpression) {
+        StringBuilder sb = new StringBuilder("CASE");
+        CustomerTier[] tiers = CustomerTier.values();
+        for (int i = 0; i < tiers.length - 1; i++) {
+            sb.append(" WHEN ").append(orderCountExpression)
+              .append(" >= ").append(tiers[i].getMinOrderCount())
+              .append(" THEN '").append(tiers[i].name()).append("'");
+        }
+        sb.append(" ELSE '").append(tiers[tiers.length - 1].name()).append("' END");
+        return sb.toString();
+    }
+
+    /**
+     * 삭제 조건 적용 (deleteUsersDynamically, 대량 삭제 대상 조회/잠금/삭제 공통)
+     *
+     * @param paramPrefix 파라미터 경로 접두어 (예: "criteria.")
+     */
+    private void applyDeleteConditions(SQL sql, UserSearchCriteria criteria, String paramPrefix) {
+        if (criteria.getIds() != null && !criteria.getIds().isEmpty()) {
+            sql.WHERE("id IN (" + buildInClause(criteria.getIds().size(), paramPrefix + "ids") + ")");
+        }
+
+        if (criteria.getStartDate() != null && criteria.getEndDate() != null) {
+            sql.WHERE("created_at BETWEEN #{" + paramPrefix + "startDate} AND #{" + paramPrefix + "endDate}");
+        }
+
+        if (criteria.getUserStatus() != null && !criteria.getUserStatus().isEmpty()) {
+            sql.WHERE("status = #{" + paramPrefix + "userStatus}");
+        }
+    }
+
     /**
      * IN 절 생성 헬퍼
      */
@@ -321,6 +714,31 @@ public class UserRepositorySqlProvider {
         return sb.toString();
     }
 
+    /**
+     * 객체 리스트의 속성으로 IN 절 생성 (예: #{items[0].id}, #{items[1].id})
+     */
+    private String buildInClause(int size, String paramName, String property) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("#{").append(paramName).append("[").append(i).append("].").append(property).append("}");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * items[i].id 별로 items[i].property 값을 고르는 CASE 절 생성
+     */
+    private String buildCaseById(int size, String property) {
+        StringBuilder sb = new StringBuilder("CASE id");
+        for (int i = 0; i < size; i++) {
+            sb.append(" WHEN #{items[").append(i).append("].id}")
+              .append(" THEN #{items[").append(i).append("].").append(property).append("}");
+        }
+        sb.append(" END");
+        return sb.toString();
+    }
+
     /**
      * 공통 WHERE 조건 적용
      */
@@ -437,13 +855,9 @@ public class UserRepositorySqlProvider {
             sql.WHERE("u.id IN (SELECT o.user_id FROM orders o GROUP BY o.user_id HAVING COUNT(*) >= #{minOrderCount})");
         }
 
-        // CASE WHEN 조건
+        // 고객 등급 조건 (customer_tier 인덱스 사용)
         if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-            sql.WHERE("(CASE " +
-                      "WHEN u.order_count >= 100 THEN 'VIP' " +
-                      "WHEN u.order_count >= 50 THEN 'PREMIUM' " +
-                      "WHEN u.order_count >= 10 THEN 'REGULAR' " +
-                      "ELSE 'NORMAL' END) = #{priorityLevel}");
+            sql.WHERE("u.customer_tier = #{priorityLevel}");
         }
     }
 
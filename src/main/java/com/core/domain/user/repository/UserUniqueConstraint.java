@@ -0,0 +1,93 @@
+package com.core.domain.user.repository;
+
+import com.core.domain.user.entity.UserEntity;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * users 테이블 유니크 제약조건 (삭제되지 않은 사용자의 username_live/email_live)
+ * 중복 키 예외(SQLState 23xxx)를 제약조건 이름으로 구분해 기존 중복 에러 메시지로 변환합니다.
+ * (db/user/003_users_username_unique.sql, db/user/004_users_email_unique.sql)
+ */
+public enum UserUniqueConstraint {
+    USERNAME("uk_users_username_live", "이미 존재하는 사용자명입니다: "),
+    EMAIL("uk_users_email_live", "이미 존재하는 이메일입니다: ");
+
+    // 무결성 제약조건 위반 SQLState 클래스
+    private static final String INTEGRITY_VIOLATION_STATE_CLASS = "23";
+
+    private static final Pattern DUPLICATE_ENTRY = Pattern.compile("Duplicate entry '(.*)' for key");
+
+    private final String constraintName;
+    private final String messagePrefix;
+
+    UserUniqueConstraint(String constraintName, String messagePrefix) {
+        this.constraintName = constraintName;
+        this.messagePrefix = messagePrefix;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * 제약조건 컬럼 값 (중복 에러 메시지용)
+     */
+    public String valueOf(UserEntity user) {
+        return this == USERNAME ? user.getUsername() : user.getEmail();
+    }
+
+    /**
+     * 중복 에러 메시지 생성
+     */
+    public String message(String value) {
+        return messagePrefix + value;
+    }
+
+    /**
+     * 예외 메시지에서 중복된 값 추출 (MySQL: Duplicate entry '값' for key ...)
+     *
+     * @return 중복된 값 (찾지 못하면 null)
+     */
+    public static String duplicateValue(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && cause.getMessage() != null) {
+                Matcher matcher = DUPLICATE_ENTRY.matcher(cause.getMessage());
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 예외 원인 체인에서 위반된 users 유니크 제약조건 찾기
+     * (MySQL 메시지 예: Duplicate entry 'alice' for key 'users.uk_users_username_live')
+     *
+     * @return 위반된 제약조건 (users 유니크 제약조건 위반이 아니면 null)
+     */
+    public static UserUniqueConstraint from(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (!(cause instanceof SQLException)) {
+                continue;
+            }
+            SQLException sqlException = (SQLException) cause;
+            String sqlState = sqlException.getSQLState();
+            String message = sqlException.getMessage();
+            if (sqlState == null || !sqlState.startsWith(INTEGRITY_VIOLATION_STATE_CLASS) || message == null) {
+                continue;
+            }
+            String lowerMessage = message.toLowerCase(Locale.ROOT);
+            for (UserUniqueConstraint constraint : values()) {
+                if (lowerMessage.contains(constraint.constraintName)) {
+                    return constraint;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객 등급(customer_tier) 백필 작업
+ *
+ * customer_tier 컬럼 추가 이후 기존 행의 등급을 order_count 기준으로 채웁니다.
+ * - ID 구간(chunk-size) 단위로 나누어 실행하므로 한 번에 긴 잠금을 잡지 않습니다.
+ * - 등급이 이미 맞는 행은 건너뛰므로 여러 번 실행해도 안전합니다.
+ * - 구간마다 별도 문장(auto-commit)으로 실행됩니다.
+ */
+@Component
+public class CustomerTierBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerTierBackfillJob.class);
+
+    private final UserRepository userRepository;
+    private final int chunkSize;
+    private final boolean runOnStartup;
+
+    public CustomerTierBackfillJob(UserRepository userRepository,
+                                   @Value("${core.user.customer-tier.backfill-chunk-size:1000}") int chunkSize,
+                                   @Value("${core.user.customer-tier.backfill-on-startup:false}") boolean runOnStartup) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("백필 구간 크기는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.userRepository = userRepository;
+        this.chunkSize = chunkSize;
+        this.runOnStartup = runOnStartup;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 백필 (core.user.customer-tier.backfill-on-startup=true 인 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (runOnStartup) {
+            run();
+        }
+    }
+
+    /**
+     * 전체 ID 범위를 구간 단위로 백필
+     *
+     * @return int 갱신된 행 수
+     */
+    public int run() {
+        long maxId = userRepository.findMaxId();
+        int total = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            total += userRepository.backfillCustomerTier(fromId, toId);
+        }
+        log.info("customer_tier 백필 완료: maxId={}, updated={}", maxId, total);
+        return total;
+    }
+}
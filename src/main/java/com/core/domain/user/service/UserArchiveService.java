@@ -0,0 +1,47 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 사용자 아카이브 서비스
+ * soft delete 후 보존 기간이 지난 사용자를 users_archive로 옮깁니다.
+ * 배치 하나(복사 + 삭제)를 하나의 트랜잭션으로 처리합니다.
+ */
+@Service
+@Transactional
+public class UserArchiveService {
+
+    private final UserRepository userRepository;
+
+    public UserArchiveService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 아카이브 배치 1회 실행
+     * deletedBefore 이전에 삭제된 사용자를 최대 batchSize건 users_archive로 복사한 뒤 users에서 제거합니다.
+     *
+     * @param deletedBefore 삭제 시각 기준
+     * @param batchSize 배치 크기
+     * @return int 옮긴 사용자 수 (0이면 더 이상 대상 없음)
+     */
+    public int archiveBatch(LocalDateTime deletedBefore, int batchSize) {
+        List<Long> ids = userRepository.findArchivableIds(deletedBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = userRepository.copyToArchive(ids);
+        int purged = userRepository.purgeArchived(ids);
+        if (copied != purged) {
+            // 동시 변경으로 건수가 어긋나면 롤백하고 다음 주기에 다시 시도
+            throw new IllegalStateException("아카이브 복사/삭제 건수가 다릅니다: copied=" + copied + ", purged=" + purged);
+        }
+        return purged;
+    }
+}
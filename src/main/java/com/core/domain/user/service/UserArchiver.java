@@ -0,0 +1,105 @@
+package com.core.domain.user.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제 사용자 백그라운드 아카이버
+ *
+ * 주기(interval)마다 보존 기간(retention)이 지난 soft delete 사용자를 users_archive로 옮깁니다.
+ * - 배치(batch-size) 단위로 나누고 배치 사이에 throttle만큼 쉬어 운영 트래픽과 잠금 경합을 줄입니다.
+ * - 한 주기에 최대 max-batches-per-run 배치만 처리하고 나머지는 다음 주기로 넘깁니다.
+ * 이렇게 users 테이블과 인덱스에는 살아 있는 사용자와 최근 삭제된 사용자만 남습니다.
+ * users_archive 테이블(db/user/002_users_archive.sql)을 만든 뒤 core.user.archive.enabled=true로 켭니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.archive", name = "enabled", havingValue = "true")
+public class UserArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(UserArchiver.class);
+
+    private final UserArchiveService archiveService;
+    private final Duration retention;
+    private final Duration interval;
+    private final int batchSize;
+    private final long throttleMillis;
+    private final int maxBatchesPerRun;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "user-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserArchiver(UserArchiveService archiveService,
+                        @Value("${core.user.archive.retention:P30D}") Duration retention,
+                        @Value("${core.user.archive.interval:PT10M}") Duration interval,
+                        @Value("${core.user.archive.batch-size:500}") int batchSize,
+                        @Value("${core.user.archive.throttle-millis:200}") long throttleMillis,
+                        @Value("${core.user.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        if (batchSize <= 0 || maxBatchesPerRun <= 0) {
+            throw new IllegalArgumentException("아카이브 배치 크기와 주기당 배치 수는 1 이상이어야 합니다");
+        }
+        this.archiveService = archiveService;
+        this.retention = retention;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.throttleMillis = throttleMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runSafely,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 아카이브 1주기 실행
+     *
+     * @return int 옮긴 사용자 수
+     */
+    public int runOnce() throws InterruptedException {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int archived = archiveService.archiveBatch(deletedBefore, batchSize);
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+            Thread.sleep(throttleMillis);
+        }
+        return total;
+    }
+
+    private void runSafely() {
+        try {
+            int archived = runOnce();
+            if (archived > 0) {
+                log.info("삭제 사용자 아카이브: {}건", archived);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("삭제 사용자 아카이브 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
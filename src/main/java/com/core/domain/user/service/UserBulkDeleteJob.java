@@ -0,0 +1,149 @@
+package com.core.domain.user.service;
+
+import com.core.common.time.IsoDateTimeWriter;
+import com.core.model.UserSearchCriteria;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 삭제 작업 상태
+ * 작업 스레드가 갱신하고 관리자 API가 읽으므로 진행 상황 필드는 volatile로 둡니다.
+ */
+public class UserBulkDeleteJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final long jobId;
+    private final UserSearchCriteria criteria;
+    private final String condition;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile long scannedCount;
+    private volatile long deletedCount;
+    private volatile int chunkCount;
+    private volatile long lastId;
+    private volatile int currentChunkSize;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    UserBulkDeleteJob(long jobId, UserSearchCriteria criteria) {
+        this.jobId = jobId;
+        this.criteria = criteria;
+        this.condition = criteria.toCanonicalString();
+    }
+
+    /**
+     * 작업 취소 요청 (현재 청크가 끝난 뒤 중단)
+     *
+     * @return 취소 요청이 받아들여졌는지 여부 (이미 끝난 작업이면 false)
+     */
+    boolean requestCancel() {
+        if (isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.CANCELLED || status == Status.FAILED;
+    }
+
+    void markRunning(int chunkSize) {
+        this.currentChunkSize = chunkSize;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void recordChunk(int scanned, int deleted, long lastId, int nextChunkSize) {
+        this.scannedCount += scanned;
+        this.deletedCount += deleted;
+        this.chunkCount++;
+        this.lastId = lastId;
+        this.currentChunkSize = nextChunkSize;
+    }
+
+    void finish(Status status, String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    @JsonIgnore
+    UserSearchCriteria getCriteria() {
+        return criteria;
+    }
+
+    // Getters
+    public long getJobId() {
+        return jobId;
+    }
+
+    public String getCondition() {
+        return condition;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getScannedCount() {
+        return scannedCount;
+    }
+
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public int getCurrentChunkSize() {
+        return currentChunkSize;
+    }
+
+    public String getRequestedAt() {
+        return IsoDateTimeWriter.format(requestedAt);
+    }
+
+    public String getStartedAt() {
+        return IsoDateTimeWriter.format(startedAt);
+    }
+
+    public String getFinishedAt() {
+        return IsoDateTimeWriter.format(finishedAt);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "UserBulkDeleteJob{" +
+                "jobId=" + jobId +
+                ", status=" + status +
+                ", condition='" + condition + '\'' +
+                ", scannedCount=" + scannedCount +
+                ", deletedCount=" + deletedCount +
+                ", chunkCount=" + chunkCount +
+                ", lastId=" + lastId +
+                '}';
+    }
+}
@@ -0,0 +1,195 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 삭제 작업 관리자
+ *
+ * deleteUsersDynamically를 한 번의 DELETE 대신 청크 단위로 나누어 실행합니다.
+ * - 대상 ID는 키셋 스캔(id > 마지막 ID ORDER BY id LIMIT n)으로 찾으므로 OFFSET 비용이 없습니다.
+ * - 청크마다 별도 트랜잭션(UserBulkDeleteService)으로 커밋합니다.
+ * - 청크 사이에 pause-millis만큼 쉬고, 청크 하나가 chunk-budget-millis를 넘기면 다음 청크 크기를 절반으로 줄입니다.
+ *   예산의 절반 안에 끝나면 설정된 크기까지 다시 두 배로 늘립니다.
+ * - 작업은 전용 스레드 하나에서 순서대로 실행되며, 취소 요청은 현재 청크가 끝난 뒤 반영됩니다.
+ */
+@Component
+public class UserBulkDeleteJobManager {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBulkDeleteJobManager.class);
+
+    private static final int MIN_CHUNK_SIZE = 10;
+
+    private final UserRepository userRepository;
+    private final UserBulkDeleteService bulkDeleteService;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long chunkBudgetMillis;
+    private final int retainedJobs;
+
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, UserBulkDeleteJob> jobs = new ConcurrentSkipListMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-bulk-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserBulkDeleteJobManager(UserRepository userRepository,
+                                    UserBulkDeleteService bulkDeleteService,
+                                    @Value("${core.user.bulk-delete.chunk-size:500}") int chunkSize,
+                                    @Value("${core.user.bulk-delete.pause-millis:100}") long pauseMillis,
+                                    @Value("${core.user.bulk-delete.chunk-budget-millis:500}") long chunkBudgetMillis,
+                                    @Value("${core.user.bulk-delete.retained-jobs:50}") int retainedJobs) {
+        if (chunkSize < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("대량 삭제 청크 크기는 " + MIN_CHUNK_SIZE + " 이상이어야 합니다: " + chunkSize);
+        }
+        this.userRepository = userRepository;
+        this.bulkDeleteService = bulkDeleteService;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.chunkBudgetMillis = chunkBudgetMillis;
+        this.retainedJobs = retainedJobs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(UserBulkDeleteJob::requestCancel);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대량 삭제 작업 등록
+     *
+     * @param request 삭제 조건 (최소 하나 이상)
+     * @return UserBulkDeleteJob 등록된 작업
+     * @throws IllegalArgumentException 삭제 조건이 없을 경우
+     */
+    public UserBulkDeleteJob submit(UserRequestDto.BulkDelete request) {
+        if (request == null || !request.hasCondition()) {
+            throw new IllegalArgumentException("삭제 조건(ids, startDate/endDate, userStatus)을 하나 이상 지정해야 합니다");
+        }
+
+        UserBulkDeleteJob job = new UserBulkDeleteJob(jobSequence.incrementAndGet(), request.toCriteria());
+        jobs.put(job.getJobId(), job);
+        evictFinishedJobs();
+        executor.execute(() -> run(job));
+        log.info("대량 삭제 작업 등록: {}", job);
+        return job;
+    }
+
+    /**
+     * 작업 조회
+     *
+     * @throws IllegalArgumentException 작업이 존재하지 않을 경우
+     */
+    public UserBulkDeleteJob getJob(long jobId) {
+        UserBulkDeleteJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("존재하지 않는 작업입니다: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 전체 작업 목록 (최근 등록 순)
+     */
+    public List<UserBulkDeleteJob> getJobs() {
+        return new ArrayList<>(jobs.descendingMap().values());
+    }
+
+    /**
+     * 작업 취소
+     *
+     * @return boolean 취소 요청이 받아들여졌는지 여부 (이미 끝난 작업이면 false)
+     * @throws IllegalArgumentException 작업이 존재하지 않을 경우
+     */
+    public boolean cancel(long jobId) {
+        return getJob(jobId).requestCancel();
+    }
+
+    private void run(UserBulkDeleteJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(UserBulkDeleteJob.Status.CANCELLED, null);
+            return;
+        }
+
+        int currentChunkSize = chunkSize;
+        job.markRunning(currentChunkSize);
+        long afterId = 0L;
+        try {
+            while (!job.isCancelRequested()) {
+                List<UserEntity> targets = userRepository.findBulkDeleteTargets(job.getCriteria(), afterId, currentChunkSize);
+                if (targets.isEmpty()) {
+                    break;
+                }
+
+                long start = System.nanoTime();
+                int deleted = bulkDeleteService.deleteChunk(job.getCriteria(), targets);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                afterId = targets.get(targets.size() - 1).getId();
+                boolean lastChunk = targets.size() < currentChunkSize;
+                currentChunkSize = nextChunkSize(currentChunkSize, elapsedMillis);
+                job.recordChunk(targets.size(), deleted, afterId, currentChunkSize);
+
+                if (lastChunk) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+            job.finish(job.isCancelRequested() ? UserBulkDeleteJob.Status.CANCELLED : UserBulkDeleteJob.Status.COMPLETED, null);
+            log.info("대량 삭제 작업 종료: {}", job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(UserBulkDeleteJob.Status.CANCELLED, "작업 스레드가 중단되었습니다");
+        } catch (RuntimeException e) {
+            job.finish(UserBulkDeleteJob.Status.FAILED, e.getMessage());
+            log.warn("대량 삭제 작업 실패: {}", job, e);
+        }
+    }
+
+    /**
+     * 청크 처리 시간에 따라 다음 청크 크기 조정
+     */
+    private int nextChunkSize(int current, long elapsedMillis) {
+        if (elapsedMillis > chunkBudgetMillis) {
+            return Math.max(current / 2, MIN_CHUNK_SIZE);
+        }
+        if (elapsedMillis < chunkBudgetMillis / 2) {
+            return Math.min(current * 2, chunkSize);
+        }
+        return current;
+    }
+
+    /**
+     * 보관 개수를 넘는 종료된 작업 제거 (오래된 순)
+     */
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - retainedJobs;
+        Iterator<Map.Entry<Long, UserBulkDeleteJob>> iterator = jobs.entrySet().iterator();
+        while (excess > 0 && iterator.hasNext()) {
+            if (iterator.next().getValue().isFinished()) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+}
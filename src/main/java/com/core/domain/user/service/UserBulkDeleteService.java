@@ -0,0 +1,60 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.event.UserChangeEventBus;
+import com.core.domain.user.repository.UserRepository;
+import com.core.model.UserSearchCriteria;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 삭제 청크 서비스
+ * 대량 삭제 작업의 청크 하나를 하나의 트랜잭션으로 삭제(soft delete)합니다.
+ * 청크마다 커밋하므로 잠금 유지 시간과 트랜잭션 로그 크기가 청크 크기로 제한됩니다.
+ */
+@Service
+@Transactional
+public class UserBulkDeleteService {
+
+    private final UserRepository userRepository;
+    private final UserChangeEventBus changeEventBus;
+
+    public UserBulkDeleteService(UserRepository userRepository, UserChangeEventBus changeEventBus) {
+        this.userRepository = userRepository;
+        this.changeEventBus = changeEventBus;
+    }
+
+    /**
+     * 청크 삭제
+     * 조회 이후 다른 요청이 삭제했거나 조건에서 벗어난 사용자는 잠금 조회에서 제외되며,
+     * 이벤트는 실제로 삭제된 사용자에 대해서만 발행합니다.
+     *
+     * @param criteria 삭제 조건
+     * @param targets 삭제 대상 사용자 (id, username)
+     * @return int 삭제된 사용자 수 (그 사이 이미 삭제되었거나 조건에서 벗어난 사용자 제외)
+     */
+    public int deleteChunk(UserSearchCriteria criteria, List<UserEntity> targets) {
+        List<Long> ids = targets.stream()
+                .map(UserEntity::getId)
+                .collect(Collectors.toList());
+
+        List<UserEntity> locked = userRepository.lockBulkDeleteTargets(criteria, ids);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> lockedIds = locked.stream()
+                .map(UserEntity::getId)
+                .collect(Collectors.toList());
+        int deleted = userRepository.softDeleteByIds(criteria, lockedIds);
+        for (UserEntity target : locked) {
+            changeEventBus.publishAfterCommit(UserChangeEvent.Type.DELETED,
+                    target.getId(), target.getUsername(), null, null);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,93 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.event.UserChangeEventBus;
+import com.core.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 수정 청크 서비스
+ * 대량 부분 수정의 청크 하나를 하나의 트랜잭션으로 수정합니다.
+ * 청크마다 커밋하므로 잠금 유지 시간과 트랜잭션 로그 크기가 청크 크기로 제한됩니다.
+ */
+@Service
+@Transactional
+public class UserBulkUpdateService {
+
+    private final UserRepository userRepository;
+    private final UserChangeEventBus changeEventBus;
+
+    public UserBulkUpdateService(UserRepository userRepository, UserChangeEventBus changeEventBus) {
+        this.userRepository = userRepository;
+        this.changeEventBus = changeEventBus;
+    }
+
+    /**
+     * 청크 수정
+     * 삭제되지 않은 대상 행을 먼저 잠가(FOR UPDATE) 수정 중 삭제되지 않도록 하고,
+     * 변경 컬럼 조합이 같은 항목끼리 UPDATE ... CASE id WHEN ... 한 문장으로 수정합니다.
+     * 이벤트는 실제로 수정된 사용자에 대해서만 발행합니다.
+     *
+     * @param items 수정 항목 (id와 변경할 isActive/status만 설정, status는 UserStatus 상수명)
+     * @return Set&lt;Long&gt; 수정된 사용자 ID (없거나 삭제된 사용자 제외)
+     * @throws IllegalStateException UPDATE 영향 행 수가 잠근 행 수와 다를 경우 (청크 롤백)
+     */
+    public Set<Long> updateChunk(List<UserEntity> items) {
+        Set<Long> lockedIds = new HashSet<>(userRepository.lockActiveIds(
+                items.stream().map(UserEntity::getId).collect(Collectors.toList())));
+        if (lockedIds.isEmpty()) {
+            return lockedIds;
+        }
+
+        Map<Integer, List<UserEntity>> groups = new HashMap<>();
+        for (UserEntity item : items) {
+            if (lockedIds.contains(item.getId())) {
+                groups.computeIfAbsent(changedColumnsKey(item), key -> new ArrayList<>()).add(item);
+            }
+        }
+
+        for (List<UserEntity> group : groups.values()) {
+            // MySQL 드라이버 기본 설정(useAffectedRows=false)은 조건에 일치한 행 수를 반환
+            int updated = userRepository.bulkUpdateUsers(group);
+            if (updated != group.size()) {
+                throw new IllegalStateException(
+                        "대량 수정 영향 행 수가 일치하지 않습니다: " + updated + " / " + group.size());
+            }
+            Set<String> changedFields = changedFields(group.get(0));
+            for (UserEntity item : group) {
+                changeEventBus.publishAfterCommit(UserChangeEvent.Type.UPDATED,
+                        item.getId(), null, null, changedFields);
+            }
+        }
+        return lockedIds;
+    }
+
+    /**
+     * 변경 컬럼 조합 키 (같은 키끼리 같은 UPDATE 문 형태를 공유)
+     * bit 0: is_active, bit 1: status
+     */
+    private static int changedColumnsKey(UserEntity item) {
+        return (item.getIsActive() != null ? 1 : 0) | (item.getStatus() != null ? 2 : 0);
+    }
+
+    private static Set<String> changedFields(UserEntity item) {
+        Set<String> fields = new HashSet<>();
+        if (item.getIsActive() != null) {
+            fields.add("isActive");
+        }
+        if (item.getStatus() != null) {
+            fields.add("status");
+        }
+        return fields;
+    }
+}
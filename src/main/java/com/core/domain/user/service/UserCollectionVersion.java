@@ -0,0 +1,78 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.event.UserChangeEventBus;
+import com.core.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 목록/검색/개수 응답의 버전 (ETag 검증값)
+ *
+ * core.user.etag.collection-version 설정에 따라 버전을 만듭니다.
+ * - DATABASE: users_write_generation 세대 (db/user/006_users_write_generation.sql 적용 필요)
+ *   트리거가 users의 모든 쓰기와 같은 트랜잭션에서 올리므로 다른 노드, 아카이브, 수동 SQL의 변경도 반영됩니다.
+ * - LOCAL: 이 프로세스의 UserChangeEventBus 세대 (단일 노드 전용, UserService를 거치지 않는 쓰기는 반영되지 않음)
+ * - NONE: 버전 없음 (목록성 응답에 ETag를 붙이지 않음)
+ *
+ * 버전은 DB 조회 전에 읽으므로, 그 사이의 쓰기는 다음 요청에서 새 버전으로 반영됩니다 (오래된 304는 생기지 않음).
+ */
+@Component
+public class UserCollectionVersion {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCollectionVersion.class);
+
+    public enum Source {
+        NONE, LOCAL, DATABASE
+    }
+
+    private final UserRepository userRepository;
+    private final UserChangeEventBus changeEventBus;
+    private final Source source;
+    private final AtomicBoolean unavailableLogged = new AtomicBoolean();
+
+    public UserCollectionVersion(UserRepository userRepository,
+                                 UserChangeEventBus changeEventBus,
+                                 @Value("${core.user.etag.collection-version:NONE}") Source source) {
+        this.userRepository = userRepository;
+        this.changeEventBus = changeEventBus;
+        this.source = source;
+    }
+
+    /**
+     * 현재 버전
+     *
+     * @return String 버전 (NONE이거나 세대를 읽을 수 없으면 null)
+     */
+    public String current() {
+        switch (source) {
+            case DATABASE:
+                return readDatabaseGeneration();
+            case LOCAL:
+                return changeEventBus.generationToken();
+            default:
+                return null;
+        }
+    }
+
+    private String readDatabaseGeneration() {
+        try {
+            Long generation = userRepository.findWriteGeneration();
+            if (generation != null) {
+                return "g" + Long.toHexString(generation);
+            }
+            if (unavailableLogged.compareAndSet(false, true)) {
+                log.warn("users_write_generation 세대 행이 없어 목록성 응답에 ETag를 붙이지 않습니다");
+            }
+        } catch (DataAccessException e) {
+            if (unavailableLogged.compareAndSet(false, true)) {
+                log.warn("users_write_generation 조회 실패로 목록성 응답에 ETag를 붙이지 않습니다", e);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,234 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.entity.UserEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 생성 그룹 커밋
+ *
+ * 동시에 들어온 단건 생성 요청을 모아 한 번의 multi-row INSERT + 한 번의 커밋으로 처리합니다.
+ * - 요청은 제한된 큐(queue-capacity)에 들어가고, 전용 writer 스레드가 max-delay-millis마다
+ *   또는 max-batch-size건이 모이면 꺼내서 등록합니다.
+ * - 각 요청은 자신의 ID 또는 자신의 중복 에러로 완료됩니다.
+ * - 큐가 가득 차면 submit이 null을 반환하고, 호출 측은 기존 단건 INSERT로 처리합니다.
+ * - 대기 시간을 넘긴 요청은 writer가 꺼내기 전이면 취소(CAS)되어 등록되지 않습니다.
+ * 커밋(fsync) 횟수가 요청 수가 아닌 배치 수에 비례하게 됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.group-commit", name = "enabled", havingValue = "true")
+public class UserCreateGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCreateGroupCommitter.class);
+
+    private final UserGroupInsertService groupInsertService;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingCreate> queue;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public UserCreateGroupCommitter(UserGroupInsertService groupInsertService,
+                                    @Value("${core.user.group-commit.max-batch-size:100}") int maxBatchSize,
+                                    @Value("${core.user.group-commit.max-delay-millis:5}") long maxDelayMillis,
+                                    @Value("${core.user.group-commit.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${core.user.group-commit.await-timeout-millis:5000}") long awaitTimeoutMillis) {
+        this.groupInsertService = groupInsertService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "user-group-commit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+    }
+
+    /**
+     * 사용자 등록 요청을 그룹 커밋 큐에 넣고 완료될 때까지 대기
+     *
+     * @param user 등록할 사용자 엔티티 (성공 시 ID가 설정됨)
+     * @return UserEntity 등록된 엔티티, 큐가 가득 차 받지 못했으면 null
+     * @throws IllegalArgumentException 사용자명 또는 이메일이 중복된 경우
+     * @throws UserCreateTimeoutException 대기 시간 안에 등록되지 않은 경우 (취소되어 이후에도 등록되지 않음)
+     */
+    public UserEntity insert(UserEntity user) {
+        PendingCreate pending = new PendingCreate(user);
+        if (!running || !queue.offer(pending)) {
+            return null;
+        }
+
+        try {
+            return await(pending);
+        } catch (TimeoutException e) {
+            // writer가 아직 꺼내지 않았으면 취소, 이미 등록 중이면 결과를 한 번 더 기다림
+            if (!pending.cancel()) {
+                try {
+                    return await(pending);
+                } catch (TimeoutException retry) {
+                    throw new UserCreateTimeoutException(
+                            "사용자 등록 결과를 확인하지 못했습니다: " + awaitTimeoutMillis * 2 + "ms", retry);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("그룹 커밋 대기 중 인터럽트되었습니다", interrupted);
+                }
+            }
+            queue.remove(pending);
+            throw new UserCreateTimeoutException("그룹 커밋 대기 시간을 초과했습니다: " + awaitTimeoutMillis + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.cancel()) {
+                queue.remove(pending);
+            }
+            throw new IllegalStateException("그룹 커밋 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    private UserEntity await(PendingCreate pending) throws TimeoutException, InterruptedException {
+        try {
+            return pending.future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("그룹 커밋 처리 중 오류가 발생했습니다", cause);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingCreate first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // max-delay 동안 또는 max-batch-size까지 모음
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 종료 시 남은 요청은 실패 처리 (호출 측 재시도)
+        PendingCreate pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.completeExceptionally(new IllegalStateException("그룹 커밋이 종료되었습니다"));
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        // 대기 시간 초과로 취소된 요청은 제외, 같은 배치 안의 username/email 중복은 먼저 들어온 요청만 등록
+        List<PendingCreate> accepted = new ArrayList<>(batch.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingCreate pending : batch) {
+            if (!pending.claim()) {
+                continue;
+            }
+            UserEntity user = pending.user;
+            if (!usernames.add(user.getUsername())) {
+                pending.future.completeExceptionally(
+                        new IllegalArgumentException("이미 존재하는 사용자명입니다: " + user.getUsername()));
+            } else if (!emails.add(user.getEmail())) {
+                pending.future.completeExceptionally(
+                        new IllegalArgumentException("이미 존재하는 이메일입니다: " + user.getEmail()));
+            } else {
+                accepted.add(pending);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<UserEntity> users = new ArrayList<>(accepted.size());
+        for (PendingCreate pending : accepted) {
+            users.add(pending.user);
+        }
+
+        try {
+            RuntimeException[] errors = groupInsertService.insertGroup(users);
+            for (int i = 0; i < accepted.size(); i++) {
+                if (errors[i] == null) {
+                    accepted.get(i).future.complete(users.get(i));
+                } else {
+                    accepted.get(i).future.completeExceptionally(errors[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패: {}건", accepted.size(), e);
+            for (PendingCreate pending : accepted) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private enum State { QUEUED, CLAIMED, CANCELLED }
+
+    private static final class PendingCreate {
+        private final UserEntity user;
+        private final CompletableFuture<UserEntity> future = new CompletableFuture<>();
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+        private PendingCreate(UserEntity user) {
+            this.user = user;
+        }
+
+        /**
+         * writer가 등록 대상으로 가져감 (이미 취소되었으면 false)
+         */
+        private boolean claim() {
+            return state.compareAndSet(State.QUEUED, State.CLAIMED);
+        }
+
+        /**
+         * 대기 중인 요청 취소 (writer가 이미 가져갔으면 false)
+         */
+        private boolean cancel() {
+            return state.compareAndSet(State.QUEUED, State.CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.core.domain.user.service;
+
+/**
+ * 그룹 커밋 대기 시간 초과로 처리하지 못한 사용자 생성 요청
+ * 컨트롤러에서 503 (Service Unavailable)으로 응답합니다.
+ */
+public class UserCreateTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UserCreateTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
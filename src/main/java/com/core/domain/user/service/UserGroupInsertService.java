@@ -0,0 +1,77 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.event.UserChangeEventBus;
+import com.core.domain.user.repository.UserRepository;
+import com.core.domain.user.repository.UserUniqueConstraint;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 그룹 커밋 INSERT 서비스
+ * 그룹 커밋으로 모인 사용자들을 하나의 트랜잭션으로 등록합니다.
+ */
+@Service
+@Transactional
+public class UserGroupInsertService {
+
+    private final UserRepository userRepository;
+    private final UserChangeEventBus changeEventBus;
+
+    public UserGroupInsertService(UserRepository userRepository, UserChangeEventBus changeEventBus) {
+        this.userRepository = userRepository;
+        this.changeEventBus = changeEventBus;
+    }
+
+    /**
+     * 그룹 등록
+     * multi-row INSERT 한 문장으로 등록하고, 중복 키로 실패하면 같은 트랜잭션 안에서 한 건씩 다시 등록해
+     * 성공한 요청은 ID를, 실패한 요청은 자기 자신의 중복 에러를 받도록 합니다.
+     * (MySQL은 실패한 문장만 롤백하므로 트랜잭션은 계속 사용할 수 있습니다)
+     *
+     * @param users 등록할 사용자 엔티티 리스트 (성공 시 ID가 설정됨)
+     * @return RuntimeException[] 항목별 에러 (성공한 항목은 null)
+     */
+    public RuntimeException[] insertGroup(List<UserEntity> users) {
+        RuntimeException[] errors = new RuntimeException[users.size()];
+        Long[] assignedIds = users.get(0).getId() != null
+                ? users.stream().map(UserEntity::getId).toArray(Long[]::new)
+                : null;
+        try {
+            userRepository.insertAll(users);
+            if (assignedIds != null) {
+                UserService.restoreIds(users, assignedIds);
+            }
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < users.size(); i++) {
+                errors[i] = insertOne(users.get(i));
+            }
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            if (errors[i] == null) {
+                UserEntity user = users.get(i);
+                changeEventBus.publishAfterCommit(UserChangeEvent.Type.CREATED,
+                        user.getId(), user.getUsername(), null, UserService.CREATED_FIELDS);
+            }
+        }
+        return errors;
+    }
+
+    private RuntimeException insertOne(UserEntity user) {
+        try {
+            userRepository.insert(user);
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            UserUniqueConstraint constraint = UserUniqueConstraint.from(e);
+            if (constraint == null) {
+                return e;
+            }
+            return new IllegalArgumentException(constraint.message(constraint.valueOf(user)), e);
+        }
+    }
+}
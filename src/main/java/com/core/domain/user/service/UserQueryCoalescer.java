@@ -0,0 +1,89 @@
+package com.core.domain.user.service;
+
+import com.core.common.async.SingleFlight;
+import com.core.domain.user.entity.UserEntity;
+import com.core.model.UserSearchCriteria;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 조회 요청 병합
+ *
+ * 대시보드처럼 같은 검색/카운트 요청이 동시에 몰릴 때, 진행 중인 DB 조회 한 번의 결과를 함께 사용합니다.
+ * - 검색: Mapper에 전달되는 검색 조건 값이 정확히 같을 때만 같은 조회로 병합
+ *   (UserSearchCriteria.toCanonicalString은 값을 변환하지 않고 길이를 붙여 인코딩하므로 다른 조건이 같은 키가 되지 않음)
+ * - 카운트: 전체 사용자 수 조회는 하나의 키로 병합
+ * 조회가 진행 중인 동안만 병합하므로, 조회 시작 직후 커밋된 변경은 함께 받은 결과에 반영되지 않을 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.coalescing", name = "enabled", havingValue = "true")
+public class UserQueryCoalescer {
+
+    private final SingleFlight<String, SearchResult> searches = new SingleFlight<>();
+    private final SingleFlight<String, Long> counts = new SingleFlight<>();
+
+    /**
+     * 검색 병합 실행
+     *
+     * @param criteria Mapper에 그대로 전달할 검색 조건 (병합 키는 이 객체의 현재 값)
+     * @param loader 실제 조회
+     */
+    public SearchResult search(UserSearchCriteria criteria, Supplier<SearchResult> loader) {
+        return searches.execute(criteria.toCanonicalString(), loader);
+    }
+
+    /**
+     * 전체 사용자 수 조회 병합 실행
+     */
+    public long count(Supplier<Long> loader) {
+        return counts.execute("count", loader);
+    }
+
+    /**
+     * 병합 통계
+     * - executions: 실제 DB 조회 수
+     * - saved: 병합으로 생략된 DB 조회 수
+     * - inFlight: 현재 진행 중인 조회 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("search", stats(searches));
+        stats.put("count", stats(counts));
+        return stats;
+    }
+
+    private static Map<String, Object> stats(SingleFlight<?, ?> flight) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executions", flight.getExecutions());
+        stats.put("saved", flight.getShared());
+        stats.put("inFlight", flight.getInFlight());
+        return stats;
+    }
+
+    /**
+     * 검색 결과 (일시 형식 변환 전 엔티티와 전체 건수)
+     * 병합된 호출마다 요청한 일시 형식으로 각자 변환합니다.
+     */
+    public static final class SearchResult {
+        private final List<UserEntity> entities;
+        private final int totalCount;
+
+        public SearchResult(List<UserEntity> entities, int totalCount) {
+            this.entities = entities;
+            this.totalCount = totalCount;
+        }
+
+        public List<UserEntity> getEntities() {
+            return entities;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.core.domain.user.service;
+
+import com.core.model.UserSearchCriteria;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 검색 비용 기반 수락 제어
+ *
+ * 검색 조건으로 스캔 위험도를 점수화하고, 비싼 검색만 별도 세마포어로 동시 실행 수를 제한합니다.
+ * - 점수: 부분 일치 LIKE, OR 조건 개수, 주문 집계/서브쿼리, 깊은 OFFSET, LIMIT 없음
+ * - ID/사용자명/이메일 정확 일치 조건이 있으면 인덱스로 범위가 좁혀지므로 항상 저렴한 검색으로 봅니다.
+ * - expensive-threshold 미만: 제한 없이 바로 실행 (비싼 검색 뒤에서 기다리지 않음)
+ * - expensive-threshold 이상: max-concurrent개 허용, queue-timeout-millis까지 대기 후 거절
+ * - max-cost 초과: 대기 없이 거절
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.search-admission", name = "enabled", havingValue = "true")
+public class UserSearchAdmission {
+
+    // 조건별 비용 가중치
+    private static final int CONTAINS_LIKE_COST = 3;
+    private static final int OR_TERM_COST = 2;
+    private static final int EXISTS_SUBQUERY_COST = 2;
+    private static final int AGGREGATE_SUBQUERY_COST = 5;
+    private static final int UNBOUNDED_LIMIT_COST = 3;
+    private static final int OFFSET_COST_UNIT = 1000;
+
+    private final int expensiveThreshold;
+    private final int maxCost;
+    private final long queueTimeoutMillis;
+    private final int maxConcurrent;
+    private final Semaphore expensivePermits;
+
+    private final LongAdder cheap = new LongAdder();
+    private final LongAdder expensive = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public UserSearchAdmission(@Value("${core.user.search-admission.expensive-threshold:6}") int expensiveThreshold,
+                               @Value("${core.user.search-admission.max-cost:60}") int maxCost,
+                               @Value("${core.user.search-admission.max-concurrent:2}") int maxConcurrent,
+                               @Value("${core.user.search-admission.queue-timeout-millis:500}") long queueTimeoutMillis) {
+        this.expensiveThreshold = expensiveThreshold;
+        this.maxCost = maxCost;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.maxConcurrent = maxConcurrent;
+        this.expensivePermits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * 비용에 따라 검색 실행
+     *
+     * @param criteria 검색 조건
+     * @param withStats 주문 통계 집계 포함 여부
+     * @param search 실행할 검색
+     * @return 검색 결과
+     * @throws UserSearchRejectedException 비용 한도를 넘었거나 대기 시간 안에 실행 슬롯을 얻지 못한 경우
+     */
+    public <T> T execute(UserSearchCriteria criteria, boolean withStats, Supplier<T> search) {
+        int cost = estimate(criteria, withStats);
+        if (cost < expensiveThreshold) {
+            cheap.increment();
+            return search.get();
+        }
+        if (cost > maxCost) {
+            rejected.increment();
+            throw new UserSearchRejectedException(
+                    "검색 비용이 허용 한도를 초과했습니다 (비용 " + cost + " > " + maxCost + "). 검색 조건을 좁혀주세요", cost, 1);
+        }
+
+        boolean acquired;
+        try {
+            acquired = expensivePermits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new UserSearchRejectedException(
+                    "비용이 큰 검색이 많아 처리할 수 없습니다 (비용 " + cost + "). 잠시 후 다시 시도해주세요", cost, 1);
+        }
+
+        expensive.increment();
+        try {
+            return search.get();
+        } finally {
+            expensivePermits.release();
+        }
+    }
+
+    /**
+     * 검색 비용 추정
+     *
+     * @param criteria 검색 조건
+     * @param withStats 주문 통계 집계 포함 여부 (orders 전체 GROUP BY)
+     * @return 비용 점수 (0: 인덱스 정확 일치 조회)
+     */
+    public int estimate(UserSearchCriteria criteria, boolean withStats) {
+        return withStats ? estimateWithStats(criteria) : estimateSearch(criteria);
+    }
+
+    /**
+     * 기본 검색 비용 (applyWhereConditions 기준)
+     */
+    private int estimateSearch(UserSearchCriteria criteria) {
+        if (criteria.getId() != null || hasText(criteria.getUsername()) || hasText(criteria.getEmail())
+                || hasItems(criteria.getIds()) || hasItems(criteria.getUsernames())) {
+            return 0;
+        }
+
+        int cost = pagingCost(criteria);
+        if (hasText(criteria.getUsernamePattern())) {
+            cost += CONTAINS_LIKE_COST;
+        }
+        if (hasText(criteria.getEmailPattern())) {
+            cost += CONTAINS_LIKE_COST;
+        }
+        if (hasItems(criteria.getSearchKeywords())) {
+            // 키워드마다 username/email 부분 일치 LIKE 두 개가 OR로 연결됨
+            cost += criteria.getSearchKeywords().size() * (CONTAINS_LIKE_COST + OR_TERM_COST);
+        }
+        if (hasItems(criteria.getEmailDomains())) {
+            cost += criteria.getEmailDomains().size() * OR_TERM_COST;
+        }
+        if (Boolean.TRUE.equals(criteria.getHasOrders())) {
+            cost += EXISTS_SUBQUERY_COST;
+        }
+        if (criteria.getMinOrderCount() != null && criteria.getMinOrderCount() > 0) {
+            cost += AGGREGATE_SUBQUERY_COST;
+        }
+        return cost;
+    }
+
+    /**
+     * 주문 통계 포함 검색 비용 (searchUsersWithOrdersAndStats 기준, orders GROUP BY 파생 테이블)
+     * 기간 조건이 없으면 파생 테이블이 orders 전체를 집계하므로, 다른 조건과 관계없이 비싼 검색으로 분류합니다.
+     */
+    private int estimateWithStats(UserSearchCriteria criteria) {
+        if (criteria.getId() != null) {
+            return 0;
+        }
+
+        int cost = pagingCost(criteria);
+        if (!Boolean.FALSE.equals(criteria.getHasOrders())) {
+            boolean dateBounded = criteria.getStartDate() != null && criteria.getEndDate() != null;
+            cost += dateBounded
+                    ? AGGREGATE_SUBQUERY_COST
+                    : Math.max(AGGREGATE_SUBQUERY_COST, expensiveThreshold);
+        }
+        if (hasText(criteria.getUsernamePattern())) {
+            cost += CONTAINS_LIKE_COST;
+        }
+        return cost;
+    }
+
+    /**
+     * LIMIT 없음, 깊은 OFFSET 비용
+     */
+    private static int pagingCost(UserSearchCriteria criteria) {
+        int cost = 0;
+        if (criteria.getLimit() == null || criteria.getLimit() <= 0) {
+            cost += UNBOUNDED_LIMIT_COST;
+        }
+        if (criteria.getOffset() != null && criteria.getOffset() > 0) {
+            cost += criteria.getOffset() / OFFSET_COST_UNIT;
+        }
+        return cost;
+    }
+
+    /**
+     * 수락 제어 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cheap", cheap.sum());
+        stats.put("expensive", expensive.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("expensiveRunning", maxConcurrent - expensivePermits.availablePermits());
+        stats.put("expensiveWaiting", expensivePermits.getQueueLength());
+        return stats;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static boolean hasItems(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
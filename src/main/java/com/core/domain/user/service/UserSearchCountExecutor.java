@@ -0,0 +1,133 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.repository.UserRepository;
+import com.core.model.UserSearchCriteria;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검색 COUNT 병렬 실행기
+ *
+ * 검색 페이지 조회와 COUNT 조회를 서로 다른 커넥션에서 동시에 실행하기 위해
+ * COUNT 쿼리를 전용 스레드에서 별도의 읽기 전용 트랜잭션으로 실행합니다.
+ * - 검색 지연 시간이 (페이지 + COUNT)에서 max(페이지, COUNT)에 가까워집니다.
+ * - 병렬 COUNT는 pool-size개의 허가(Semaphore)를 tryAcquire로 얻은 경우에만 실행하고,
+ *   허가가 없으면 countAsync가 null을 반환해 호출 측이 같은 스레드에서 실행합니다 (기존 순차 실행과 같음).
+ * 병렬 검색 한 건이 커넥션을 두 개 쓰므로, 허가 수는 Hikari 커넥션 풀 크기의 절반 이하로 제한합니다
+ * (풀 전체가 COUNT 대기로 묶여 페이지 조회가 커넥션을 얻지 못하는 일을 방지).
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.parallel-search", name = "enabled", havingValue = "true")
+public class UserSearchCountExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchCountExecutor.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public UserSearchCountExecutor(UserRepository userRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<DataSource> dataSourceProvider,
+                                   @Value("${core.user.parallel-search.pool-size:4}") int poolSize) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        int parallelism = limitToConnectionPool(poolSize, dataSourceProvider.getIfAvailable());
+        this.permits = new Semaphore(parallelism);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread thread = new Thread(r, "user-search-count-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 병렬 COUNT 수를 커넥션 풀 크기 미만으로 제한 (Hikari가 아니면 설정값 그대로)
+     */
+    private static int limitToConnectionPool(int poolSize, DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return poolSize;
+        }
+        int maximumPoolSize = ((HikariDataSource) dataSource).getMaximumPoolSize();
+        int limit = Math.max(0, maximumPoolSize / 2);
+        if (poolSize > limit) {
+            log.warn("병렬 COUNT 수를 커넥션 풀 크기에 맞춰 줄입니다: {} -> {} (maximum-pool-size={})",
+                    poolSize, limit, maximumPoolSize);
+            return limit;
+        }
+        return poolSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 검색 조건에 맞는 사용자 수 조회를 비동기로 시작
+     *
+     * @param criteria 검색 조건
+     * @return CompletableFuture<Integer> 사용자 수, 병렬 실행 허가가 없으면 null (호출 측에서 직접 조회)
+     */
+    public CompletableFuture<Integer> countAsync(UserSearchCriteria criteria) {
+        if (!permits.tryAcquire()) {
+            return null;
+        }
+        CompletableFuture<Integer> count = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    // 시작 전에 취소되었으면 (마지막 페이지로 건수를 알게 된 경우) 실행하지 않음
+                    if (!count.isDone()) {
+                        count.complete(readOnlyTransaction.execute(
+                                status -> userRepository.countUsersWithDynamicQuery(criteria)));
+                    }
+                } catch (RuntimeException e) {
+                    count.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return null;
+        }
+        return count;
+    }
+
+    /**
+     * 비동기 COUNT 결과 대기 (COUNT 쿼리의 예외는 그대로 전달)
+     */
+    public int await(CompletableFuture<Integer> count) {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.core.domain.user.service;
+
+/**
+ * 검색 비용 제한으로 거절된 검색 요청
+ * 컨트롤러에서 429 (Too Many Requests)로 응답합니다.
+ */
+public class UserSearchRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int cost;
+    private final long retryAfterSeconds;
+
+    public UserSearchRejectedException(String message, int cost, long retryAfterSeconds) {
+        super(message);
+        this.cost = cost;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 추정 검색 비용
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 재시도까지 권장 대기 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
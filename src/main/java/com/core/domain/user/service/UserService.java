@@ -1,18 +1,38 @@
 package com.core.domain.user.service;
 
+import com.core.common.bulkhead.Bulkhead;
+import com.core.common.bulkhead.WorkloadClass;
+import com.core.common.id.IdBlockAllocator;
 import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.dto.TimestampFormat;
 import com.core.domain.user.dto.UserResponseDto;
 import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.event.UserChangeEventBus;
 import com.core.domain.user.repository.UserRepository;
+import com.core.domain.user.repository.UserUniqueConstraint;
 import com.core.domain.user.vo.Email;
+import com.core.domain.user.vo.UserStatus;
 import com.core.domain.user.vo.Username;
 import com.core.model.UserSearchCriteria;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -23,10 +43,55 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserService {
 
+    // 신규 생성 시 값이 정해지는 필드
+    static final Set<String> CREATED_FIELDS =
+            new HashSet<>(Arrays.asList("username", "email", "isActive", "status"));
+
+    // 주문 수 변경 시 함께 바뀌는 필드
+    private static final Set<String> ORDER_COUNT_FIELDS =
+            new HashSet<>(Arrays.asList("orderCount", "customerTier"));
+
+    // 대량 처리 시 한 문장에 묶는 최대 항목 수 / 요청당 최대 항목 수
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final int BULK_MAX_ITEMS = 10000;
+
+    // id_sequences의 사용자 ID 시퀀스 이름
+    private static final String USER_ID_SEQUENCE = "users";
+
     private final UserRepository userRepository;
+    private final UserChangeEventBus changeEventBus;
+    private final UserBulkUpdateService bulkUpdateService;
+
+    // 그룹 커밋 (core.user.group-commit.enabled=true 인 경우에만 존재)
+    private final UserCreateGroupCommitter groupCommitter;
+
+    // 블록 단위 ID 할당기 (core.id-allocator.enabled=true 인 경우에만 존재, 없으면 auto increment)
+    private final IdBlockAllocator idAllocator;
 
-    public UserService(UserRepository userRepository) {
+    // 검색 COUNT 병렬 실행 (core.user.parallel-search.enabled=true 인 경우에만 존재, 없으면 순차 실행)
+    private final UserSearchCountExecutor searchCountExecutor;
+
+    // 동일 조회 요청 병합 (core.user.coalescing.enabled=true 인 경우에만 존재)
+    private final UserQueryCoalescer queryCoalescer;
+
+    // 검색 비용 기반 수락 제어 (core.user.search-admission.enabled=true 인 경우에만 존재)
+    private final UserSearchAdmission searchAdmission;
+
+    public UserService(UserRepository userRepository, UserChangeEventBus changeEventBus,
+                       UserBulkUpdateService bulkUpdateService,
+                       ObjectProvider<UserCreateGroupCommitter> groupCommitterProvider,
+                       ObjectProvider<IdBlockAllocator> idAllocatorProvider,
+                       ObjectProvider<UserSearchCountExecutor> searchCountExecutorProvider,
+                       ObjectProvider<UserQueryCoalescer> queryCoalescerProvider,
+                       ObjectProvider<UserSearchAdmission> searchAdmissionProvider) {
         this.userRepository = userRepository;
+        this.changeEventBus = changeEventBus;
+        this.bulkUpdateService = bulkUpdateService;
+        this.groupCommitter = groupCommitterProvider.getIfAvailable();
+        this.idAllocator = idAllocatorProvider.getIfAvailable();
+        this.searchCountExecutor = searchCountExecutorProvider.getIfAvailable();
+        this.queryCoalescer = queryCoalescerProvider.getIfAvailable();
+        this.searchAdmission = searchAdmissionProvider.getIfAvailable();
     }
 
     /**
@@ -37,8 +102,20 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserResponseDto.Basic> getAllUsers() {
+        return getAllUsers(TimestampFormat.ISO);
+    }
+
+    /**
+     * 모든 사용자 조회 (일시 출력 형식 지정)
+     *
+     * @param timestampFormat 일시 출력 형식 (ISO, EPOCH_MILLIS)
+     * @return List<UserResponseDto.Basic> 사용자 기본 정보 리스트
+     */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public List<UserResponseDto.Basic> getAllUsers(TimestampFormat timestampFormat) {
         List<UserEntity> entities = userRepository.findAll();
-        return UserResponseDto.Basic.fromList(entities);
+        return UserResponseDto.Basic.fromList(entities, timestampFormat);
     }
 
     /**
@@ -51,11 +128,25 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserResponseDto.Detail getUserById(Long id) {
+        return getUserById(id, TimestampFormat.ISO);
+    }
+
+    /**
+     * ID로 사용자 조회 (일시 출력 형식 지정)
+     *
+     * @param id 조회할 사용자 ID
+     * @param timestampFormat 일시 출력 형식 (ISO, EPOCH_MILLIS)
+     * @return UserResponseDto.Detail 사용자 상세 정보
+     * @throws IllegalArgumentException 사용자가 존재하지 않을 경우
+     */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public UserResponseDto.Detail getUserById(Long id, TimestampFormat timestampFormat) {
         UserEntity entity = userRepository.findById(id);
         if (entity == null) {
             throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + id);
         }
-        return UserResponseDto.Detail.from(entity);
+        return UserResponseDto.Detail.from(entity, timestampFormat);
     }
 
     /**
@@ -67,6 +158,7 @@ public class UserService {
      * @return UserResponseDto.Detail 사용자 상세 정보
      * @throws IllegalArgumentException 사용자명이 유효하지 않거나 사용자가 존재하지 않을 경우
      */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
     @Transactional(readOnly = true)
     public UserResponseDto.Detail getUserByUsername(String username) {
         // VO를 사용한 유효성 검증
@@ -83,34 +175,46 @@ public class UserService {
      * 사용자 생성
      * 새로운 사용자를 생성합니다.
      * - VO를 사용하여 username과 email의 유효성을 검증
-     * - 중복된 username 또는 email이 있는지 확인
-     * - 모든 검증을 통과하면 사용자를 생성하고 저장
+     * - 사전 중복 조회 없이 INSERT 한 번만 실행 (생성된 ID도 같은 왕복에서 받음)
+     * - username/email 중복은 유니크 인덱스 위반을 제약조건 이름으로 구분해 변환하므로 동시 가입에도 정확함
+     * - 그룹 커밋이 켜져 있으면 동시 요청과 묶어 등록 (큐가 가득 차면 단건 INSERT)
+     *
+     * INSERT 한 문장뿐이므로 트랜잭션을 새로 열지 않습니다 (그룹 커밋 대기 중 커넥션을 잡지 않도록).
      *
      * @param request 사용자 생성 요청 DTO (username, email 필수)
      * @return UserResponseDto.Detail 생성된 사용자 상세 정보
      * @throws IllegalArgumentException 사용자명 또는 이메일이 이미 존재하거나 유효하지 않을 경우
+     * @throws UserCreateTimeoutException 그룹 커밋 대기 시간을 초과한 경우
      */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponseDto.Detail createUser(UserRequestDto.Create request) {
         // VO를 사용한 유효성 검증
         Username username = Username.of(request.getUsername());
         Email email = Email.of(request.getEmail());
 
-        // 중복 체크
-        if (userRepository.existsByUsername(username.getValue())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + username.getValue());
-        }
-
-        if (userRepository.existsByEmail(email.getValue())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + email.getValue());
-        }
-
-        // Entity 생성 및 저장
+        // Entity 생성 및 저장 (중복은 유니크 인덱스로 판단)
         UserEntity entity = new UserEntity();
         entity.setUsername(username.getValue());
         entity.setEmail(email.getValue());
         entity.setIsActive(true);
+        assignIds(Collections.singletonList(entity));
 
-        userRepository.insert(entity);
+        if (groupCommitter != null && groupCommitter.insert(entity) != null) {
+            return UserResponseDto.Detail.from(entity);
+        }
+
+        try {
+            userRepository.insert(entity);
+        } catch (DataIntegrityViolationException e) {
+            UserUniqueConstraint constraint = UserUniqueConstraint.from(e);
+            if (constraint == null) {
+                throw e;
+            }
+            throw new IllegalArgumentException(constraint.message(constraint.valueOf(entity)), e);
+        }
+        changeEventBus.publishAfterCommit(UserChangeEvent.Type.CREATED,
+                entity.getId(), entity.getUsername(), null, CREATED_FIELDS);
 
         return UserResponseDto.Detail.from(entity);
     }
@@ -120,13 +224,14 @@ public class UserService {
      * 기존 사용자의 정보를 수정합니다.
      * - 동적 업데이트: null이 아닌 필드만 업데이트
      * - VO를 사용한 유효성 검증
-     * - 다른 사용자가 이미 사용 중인 username/email인지 확인
+     * - username/email 중복은 사전 조회 없이 유니크 인덱스 위반을 변환 (삭제된 사용자가 쓰던 값, 동시 수정 포함)
      *
      * @param id 수정할 사용자 ID
      * @param request 사용자 수정 요청 DTO (수정할 필드만 설정, null인 필드는 무시)
      * @return UserResponseDto.Detail 수정된 사용자 상세 정보
      * @throws IllegalArgumentException 사용자가 존재하지 않거나, username/email이 중복되거나, 유효하지 않을 경우
      */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
     public UserResponseDto.Detail updateUser(Long id, UserRequestDto.Update request) {
         // 존재 여부 확인
         UserEntity existingEntity = userRepository.findById(id);
@@ -141,21 +246,11 @@ public class UserService {
         // VO를 사용한 유효성 검증 및 업데이트 데이터 설정
         if (request.getUsername() != null && !request.getUsername().isEmpty()) {
             Username username = Username.of(request.getUsername());
-            // 다른 사용자가 이미 사용 중인지 확인
-            UserEntity duplicateUser = userRepository.findByUsername(username.getValue());
-            if (duplicateUser != null && !duplicateUser.getId().equals(id)) {
-                throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + username.getValue());
-            }
             params.put("username", username.getValue());
         }
 
         if (request.getEmail() != null && !request.getEmail().isEmpty()) {
             Email email = Email.of(request.getEmail());
-            // 다른 사용자가 이미 사용 중인지 확인
-            UserEntity duplicateUser = userRepository.findByEmail(email.getValue());
-            if (duplicateUser != null && !duplicateUser.getId().equals(id)) {
-                throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + email.getValue());
-            }
             params.put("email", email.getValue());
         }
 
@@ -167,8 +262,27 @@ public class UserService {
             params.put("status", request.getStatus());
         }
 
-        // 동적 업데이트 수행
-        userRepository.updateUserDynamically(params);
+        // 동적 업데이트 수행 (중복은 유니크 인덱스로 판단)
+        try {
+            userRepository.updateUserDynamically(params);
+        } catch (DataIntegrityViolationException e) {
+            UserUniqueConstraint constraint = UserUniqueConstraint.from(e);
+            if (constraint == null) {
+                throw e;
+            }
+            String value = (String) params.get(constraint == UserUniqueConstraint.USERNAME ? "username" : "email");
+            throw new IllegalArgumentException(constraint.message(value), e);
+        }
+
+        Set<String> changedFields = new HashSet<>(params.keySet());
+        changedFields.remove("id");
+        String newUsername = (String) params.get("username");
+        changeEventBus.publishAfterCommit(UserChangeEvent.Type.UPDATED, id,
+                newUsername != null ? newUsername : existingEntity.getUsername(),
+                newUsername != null && !newUsername.equals(existingEntity.getUsername())
+                        ? existingEntity.getUsername()
+                        : null,
+                changedFields);
 
         // 업데이트된 엔티티 조회 및 반환
         UserEntity updatedEntity = userRepository.findById(id);
@@ -177,12 +291,13 @@ public class UserService {
 
     /**
      * 사용자 삭제
-     * 지정된 ID의 사용자를 삭제합니다.
+     * 지정된 ID의 사용자를 삭제(soft delete, deleted_at 설정)합니다.
      * 삭제 전에 사용자 존재 여부를 확인합니다.
      *
      * @param id 삭제할 사용자 ID
      * @throws IllegalArgumentException 사용자가 존재하지 않을 경우
      */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
     public void deleteUser(Long id) {
         UserEntity existingEntity = userRepository.findById(id);
         if (existingEntity == null) {
@@ -190,16 +305,285 @@ public class UserService {
         }
 
         userRepository.deleteById(id);
+        changeEventBus.publishAfterCommit(UserChangeEvent.Type.DELETED,
+                id, existingEntity.getUsername(), null, null);
+    }
+
+    /**
+     * 대량 부분 수정
+     * isActive/status만 변경하는 요청을 건별 PUT 대신 묶어서 처리합니다.
+     * - BULK_CHUNK_SIZE 단위로 청크마다 별도 트랜잭션 (요청 전체를 하나의 트랜잭션으로 잠그지 않음)
+     * - 청크의 존재하는 ID를 한 번에 잠금 조회 (FOR UPDATE, 수정 도중 삭제되지 않음)
+     * - 변경 컬럼 조합이 같은 항목끼리 묶어 조합마다 UPDATE ... CASE id WHEN ... 한 문장으로 수정
+     * 따라서 청크당 SELECT 1회 + 조합 수(최대 3)만큼의 UPDATE만 실행됩니다.
+     *
+     * @param items 수정 항목 리스트
+     * @return List<UserResponseDto.BulkResult> 요청 순서대로의 항목별 결과
+     * @throws IllegalArgumentException 항목 수가 최대치를 넘을 경우
+     */
+    @Bulkhead(WorkloadClass.BATCH)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UserResponseDto.BulkResult> bulkUpdateUsers(List<UserRequestDto.BulkUpdate> items) {
+        if (items.size() > BULK_MAX_ITEMS) {
+            throw new IllegalArgumentException("한 번에 수정할 수 있는 사용자는 최대 " + BULK_MAX_ITEMS + "명입니다: " + items.size());
+        }
+
+        UserResponseDto.BulkResult[] results = new UserResponseDto.BulkResult[items.size()];
+        Map<Long, Integer> indexById = new HashMap<>();
+        List<UserEntity> validItems = new ArrayList<>();
+
+        // 항목 검증 (status는 UserStatus 상수명으로 정규화)
+        for (int i = 0; i < items.size(); i++) {
+            UserRequestDto.BulkUpdate item = items.get(i);
+            String error = validateBulkUpdate(item, indexById);
+            if (error != null) {
+                results[i] = UserResponseDto.BulkResult.invalid(item != null ? item.getId() : null, error);
+                continue;
+            }
+            UserEntity entity = new UserEntity();
+            entity.setId(item.getId());
+            entity.setIsActive(item.getIsActive());
+            entity.setStatus(item.getStatus() != null ? UserStatus.fromString(item.getStatus()).name() : null);
+            validItems.add(entity);
+            indexById.put(item.getId(), i);
+        }
+
+        for (int from = 0; from < validItems.size(); from += BULK_CHUNK_SIZE) {
+            List<UserEntity> chunk = validItems.subList(from, Math.min(from + BULK_CHUNK_SIZE, validItems.size()));
+            Set<Long> updatedIds = bulkUpdateService.updateChunk(chunk);
+            for (UserEntity item : chunk) {
+                results[indexById.get(item.getId())] = UserResponseDto.BulkResult.of(item.getId(),
+                        updatedIds.contains(item.getId())
+                                ? UserResponseDto.BulkResult.Outcome.UPDATED
+                                : UserResponseDto.BulkResult.Outcome.NOT_FOUND);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 대량 수정 항목 검증
+     *
+     * @return 에러 메시지 (유효하면 null)
+     */
+    private String validateBulkUpdate(UserRequestDto.BulkUpdate item, Map<Long, Integer> indexById) {
+        if (item == null) {
+            return "수정 항목이 비어 있습니다";
+        }
+        if (item.getId() == null) {
+            return "ID는 필수입니다";
+        }
+        if (item.changedColumnsKey() == 0) {
+            return "변경할 필드(isActive, status)가 없습니다";
+        }
+        if (indexById.containsKey(item.getId())) {
+            return "요청에 중복된 ID입니다: " + item.getId();
+        }
+        if (item.getStatus() != null) {
+            try {
+                UserStatus.fromString(item.getStatus());
+            } catch (IllegalArgumentException e) {
+                return "유효하지 않은 상태입니다: " + item.getStatus();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 사용자 동기화 (단건 upsert)
+     *
+     * @param request 사용자 스냅샷
+     * @return UserResponseDto.BulkResult 처리 결과 (INSERTED, UPDATED, UNCHANGED, INVALID)
+     */
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    public UserResponseDto.BulkResult upsertUser(UserRequestDto.Upsert request) {
+        return upsertUsers(Collections.singletonList(request)).get(0);
+    }
+
+    /**
+     * 사용자 동기화 (대량 upsert)
+     * 외부 시스템의 사용자 스냅샷을 username 기준으로 반영합니다.
+     * BULK_CHUNK_SIZE 단위로 username/email이 겹치는 기존 행을 한 번에 조회(결과 분류, 이메일 충돌 확인용)한 뒤,
+     * INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 청크 전체를 반영합니다.
+     *
+     * @param requests 사용자 스냅샷 리스트
+     * @return List<UserResponseDto.BulkResult> 요청 순서대로의 항목별 결과
+     * @throws IllegalArgumentException 항목 수가 최대치를 넘을 경우
+     */
+    @Bulkhead(WorkloadClass.BATCH)
+    public List<UserResponseDto.BulkResult> upsertUsers(List<UserRequestDto.Upsert> requests) {
+        if (requests.size() > BULK_MAX_ITEMS) {
+            throw new IllegalArgumentException("한 번에 동기화할 수 있는 사용자는 최대 " + BULK_MAX_ITEMS + "명입니다: " + requests.size());
+        }
+
+        UserResponseDto.BulkResult[] results = new UserResponseDto.BulkResult[requests.size()];
+        // username/email 컬럼은 대소문자를 구분하지 않는 collation이므로 비교도 대소문자 무시
+        Map<String, Integer> indexByUsername = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<UserEntity> validEntities = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserRequestDto.Upsert request = requests.get(i);
+            try {
+                UserEntity entity = toUpsertEntity(request);
+                if (indexByUsername.containsKey(entity.getUsername())) {
+                    throw new IllegalArgumentException("요청에 중복된 사용자명입니다: " + entity.getUsername());
+                }
+                indexByUsername.put(entity.getUsername(), i);
+                validEntities.add(entity);
+            } catch (IllegalArgumentException e) {
+                results[i] = UserResponseDto.BulkResult.ofUsername(
+                        request.getUsername(), UserResponseDto.BulkResult.Outcome.INVALID, e.getMessage());
+            }
+        }
+
+        for (int from = 0; from < validEntities.size(); from += BULK_CHUNK_SIZE) {
+            List<UserEntity> chunk = validEntities.subList(from, Math.min(from + BULK_CHUNK_SIZE, validEntities.size()));
+            List<UserEntity> found = userRepository.findByUsernamesOrEmails(
+                    chunk.stream().map(UserEntity::getUsername).collect(Collectors.toList()),
+                    chunk.stream().map(UserEntity::getEmail).collect(Collectors.toList()));
+            Map<String, UserEntity> existing = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            Map<String, String> usernameByEmail = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (UserEntity entity : found) {
+                existing.put(entity.getUsername(), entity);
+                usernameByEmail.put(entity.getEmail(), entity.getUsername());
+            }
+
+            // 다른 사용자의 이메일로 바꾸려는 항목은 제외 (email 유니크 인덱스 충돌 시 다른 행이 UPDATE되는 것을 방지)
+            List<UserEntity> upsertable = new ArrayList<>(chunk.size());
+            Set<String> chunkEmails = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            for (UserEntity entity : chunk) {
+                String owner = usernameByEmail.get(entity.getEmail());
+                if ((owner != null && !owner.equalsIgnoreCase(entity.getUsername())) || !chunkEmails.add(entity.getEmail())) {
+                    results[indexByUsername.get(entity.getUsername())] = UserResponseDto.BulkResult.ofUsername(
+                            entity.getUsername(), UserResponseDto.BulkResult.Outcome.INVALID,
+                            UserUniqueConstraint.EMAIL.message(entity.getEmail()));
+                } else {
+                    upsertable.add(entity);
+                }
+            }
+            if (upsertable.isEmpty()) {
+                continue;
+            }
+
+            assignUpsertIds(upsertable, existing);
+            userRepository.upsertUsers(upsertable);
+            Map<String, Long> insertedIds = findInsertedIds(upsertable, existing);
+
+            for (UserEntity entity : upsertable) {
+                UserEntity before = existing.get(entity.getUsername());
+                UserResponseDto.BulkResult.Outcome outcome = classifyUpsert(before, entity);
+                results[indexByUsername.get(entity.getUsername())] =
+                        UserResponseDto.BulkResult.ofUsername(entity.getUsername(), outcome, null);
+
+                if (outcome == UserResponseDto.BulkResult.Outcome.INSERTED) {
+                    changeEventBus.publishAfterCommit(UserChangeEvent.Type.CREATED,
+                            insertedIds.get(entity.getUsername()), entity.getUsername(), null, CREATED_FIELDS);
+                } else if (outcome == UserResponseDto.BulkResult.Outcome.UPDATED) {
+                    // 대소문자만 다른 사용자명으로 일치한 경우 저장된 사용자명은 바뀌지 않음
+                    changeEventBus.publishAfterCommit(UserChangeEvent.Type.UPDATED,
+                            before.getId(), before.getUsername(), null, upsertChangedFields(before, entity));
+                }
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * upsert로 새로 생성된 사용자의 ID 조회 (같은 트랜잭션에서 다시 조회)
+     * multi-row upsert는 행별 생성 ID를 돌려주지 않으므로 사용자명으로 다시 읽습니다.
+     *
+     * @return Map&lt;String, Long&gt; 사용자명(대소문자 무시) → ID
+     */
+    private Map<String, Long> findInsertedIds(List<UserEntity> upsertable, Map<String, UserEntity> existing) {
+        List<String> insertedUsernames = upsertable.stream()
+                .map(UserEntity::getUsername)
+                .filter(username -> !existing.containsKey(username))
+                .collect(Collectors.toList());
+        Map<String, Long> insertedIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (!insertedUsernames.isEmpty()) {
+            for (UserEntity row : userRepository.findIdsByUsernames(insertedUsernames)) {
+                insertedIds.put(row.getUsername(), row.getId());
+            }
+        }
+        return insertedIds;
+    }
+
+    /**
+     * upsert 요청을 검증하고 엔티티로 변환 (생략된 isActive/status는 true/ACTIVE)
+     */
+    private UserEntity toUpsertEntity(UserRequestDto.Upsert request) {
+        UserEntity entity = new UserEntity();
+        entity.setUsername(Username.of(request.getUsername()).getValue());
+        entity.setEmail(Email.of(request.getEmail()).getValue());
+        entity.setIsActive(request.getIsActive() != null ? request.getIsActive() : Boolean.TRUE);
+        entity.setStatus(request.getStatus() != null
+                ? UserStatus.fromString(request.getStatus()).name()
+                : UserStatus.ACTIVE.name());
+        return entity;
+    }
+
+    /**
+     * upsert 이전 행과 스냅샷을 비교해 결과 분류
+     */
+    private UserResponseDto.BulkResult.Outcome classifyUpsert(UserEntity before, UserEntity snapshot) {
+        if (before == null) {
+            return UserResponseDto.BulkResult.Outcome.INSERTED;
+        }
+        if (upsertChangedFields(before, snapshot).isEmpty()) {
+            return UserResponseDto.BulkResult.Outcome.UNCHANGED;
+        }
+        return UserResponseDto.BulkResult.Outcome.UPDATED;
+    }
+
+    private Set<String> upsertChangedFields(UserEntity before, UserEntity snapshot) {
+        Set<String> fields = new HashSet<>();
+        if (!Objects.equals(before.getEmail(), snapshot.getEmail())) {
+            fields.add("email");
+        }
+        if (!Objects.equals(before.getIsActive(), snapshot.getIsActive())) {
+            fields.add("isActive");
+        }
+        if (!Objects.equals(before.getStatus(), snapshot.getStatus())) {
+            fields.add("status");
+        }
+        return fields;
+    }
+
+    /**
+     * 주문 수 변경 반영
+     * 주문 생성/취소 시 호출하여 order_count와 customer_tier를 하나의 UPDATE로 함께 갱신합니다.
+     * 등급이 저장되어 있으므로 등급 조건 검색이 매 행 CASE 계산 없이 인덱스를 사용할 수 있습니다.
+     *
+     * @param id 사용자 ID
+     * @param delta 주문 수 증감량 (주문 생성: +1, 주문 취소: -1)
+     * @throws IllegalArgumentException 사용자가 존재하지 않을 경우
+     */
+    public void applyOrderCountChange(Long id, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        int updated = userRepository.applyOrderCountDelta(id, delta);
+        if (updated == 0) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + id);
+        }
+        changeEventBus.publishAfterCommit(UserChangeEvent.Type.UPDATED, id, null, null, ORDER_COUNT_FIELDS);
     }
 
     /**
      * 전체 사용자 수 조회
      * 삭제되지 않은 전체 사용자 수를 반환합니다.
+     * 요청 병합 사용 시 동시 요청은 진행 중인 COUNT 한 번의 결과를 함께 사용합니다.
      *
      * @return long 사용자 수 (삭제된 사용자 제외)
      */
-    @Transactional(readOnly = true)
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public long getUserCount() {
+        if (queryCoalescer != null) {
+            return queryCoalescer.count(() -> (long) userRepository.count());
+        }
         return userRepository.count();
     }
 
@@ -209,21 +593,35 @@ public class UserService {
      * - 검색 조건: ID, username, email, 날짜 범위, 활성화 여부 등
      * - 정렬: 다양한 컬럼 기준 오름차순/내림차순
      * - 페이징: page, size 파라미터로 제어
+     * - 일시 형식: timestampFormat 파라미터로 제어 (ISO, EPOCH_MILLIS)
+     * - 병렬 검색 사용 시 COUNT 쿼리를 다른 커넥션에서 페이지 조회와 동시에 실행
+     * - 마지막 페이지(조회 건수 < size)이면 COUNT 결과 없이 전체 건수를 계산
+     * - 요청 병합 사용 시 같은 검색 조건의 동시 요청은 진행 중인 조회 한 번의 결과를 함께 사용
+     *   (대기 중인 요청이 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행하고, 쿼리마다 커넥션을 사용)
+     * - 수락 제어 사용 시 비용이 큰 검색은 동시 실행 수가 제한되고, 한도를 넘으면 거절
      *
      * @param searchDto 검색 조건 DTO
      * @return UserResponseDto.Page 페이징 정보와 사용자 목록
+     * @throws UserSearchRejectedException 검색 비용 한도 초과 또는 비싼 검색 대기 시간 초과
      */
-    @Transactional(readOnly = true)
+    @Bulkhead(WorkloadClass.INTERACTIVE)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public UserResponseDto.Page searchUsers(UserRequestDto.Search searchDto) {
         // SearchDto를 Criteria로 변환
-        UserSearchCriteria criteria = convertToCriteria(searchDto);
+        UserSearchCriteria criteria = searchDto.toCriteria();
 
         // 검색 실행
-        List<UserEntity> entities = userRepository.searchUsersWithDynamicQuery(criteria);
-        int totalCount = userRepository.countUsersWithDynamicQuery(criteria);
+        UserQueryCoalescer.SearchResult result = queryCoalescer != null
+                ? queryCoalescer.search(criteria, () -> loadSearchResult(criteria))
+                : loadSearchResult(criteria);
+        List<UserEntity> entities = result.getEntities();
+        int totalCount = result.getTotalCount();
 
         // DTO 변환
-        List<UserResponseDto.Basic> content = UserResponseDto.Basic.fromList(entities);
+        TimestampFormat timestampFormat = searchDto.getTimestampFormat() != null
+                ? searchDto.getTimestampFormat()
+                : TimestampFormat.ISO;
+        List<UserResponseDto.Basic> content = UserResponseDto.Basic.fromList(entities, timestampFormat);
 
         // 페이징 정보와 함께 반환
         int page = searchDto.getPage() != null ? searchDto.getPage() : 0;
@@ -232,6 +630,56 @@ public class UserService {
         return new UserResponseDto.Page(content, page, size, totalCount);
     }
 
+    /**
+     * 검색 페이지와 전체 건수 조회
+     */
+    private UserQueryCoalescer.SearchResult loadSearchResult(UserSearchCriteria criteria) {
+        if (searchAdmission != null) {
+            return searchAdmission.execute(criteria, false, () -> querySearchResult(criteria));
+        }
+        return querySearchResult(criteria);
+    }
+
+    private UserQueryCoalescer.SearchResult querySearchResult(UserSearchCriteria criteria) {
+        // 병렬 COUNT 허가가 없으면 null (페이지 조회 후 같은 스레드에서 COUNT)
+        CompletableFuture<Integer> countFuture = searchCountExecutor != null
+                ? searchCountExecutor.countAsync(criteria)
+                : null;
+        List<UserEntity> entities = userRepository.searchUsersWithDynamicQuery(criteria);
+
+        int totalCount;
+        Integer knownTotal = totalFromLastPage(criteria, entities.size());
+        if (knownTotal != null) {
+            totalCount = knownTotal;
+            if (countFuture != null) {
+                // 아직 시작하지 않았다면 실행되지 않음
+                countFuture.cancel(false);
+            }
+        } else if (countFuture != null) {
+            totalCount = searchCountExecutor.await(countFuture);
+        } else {
+            totalCount = userRepository.countUsersWithDynamicQuery(criteria);
+        }
+        return new UserQueryCoalescer.SearchResult(entities, totalCount);
+    }
+
+    /**
+     * 조회 결과가 마지막 페이지이면 전체 건수 계산
+     * - 첫 페이지에서 size보다 적게 조회되면 조회 건수가 곧 전체 건수
+     * - 이후 페이지에서 1건 이상 size 미만이면 offset + 조회 건수
+     *   (빈 페이지는 범위를 벗어난 것인지 알 수 없으므로 COUNT 필요)
+     *
+     * @return 전체 건수 (알 수 없으면 null)
+     */
+    private static Integer totalFromLastPage(UserSearchCriteria criteria, int rows) {
+        int offset = criteria.getOffset() != null ? criteria.getOffset() : 0;
+        boolean lastPage = criteria.getLimit() == null || rows < criteria.getLimit();
+        if (!lastPage || (offset > 0 && rows == 0)) {
+            return null;
+        }
+        return offset + rows;
+    }
+
     /**
      * 주문 통계를 포함한 사용자 검색
      * 사용자 정보와 함께 주문 통계 정보를 조회합니다.
@@ -239,18 +687,20 @@ public class UserService {
      * - totalAmount: 총 주문 금액
      * - customerTier: 고객 등급 (VIP, PREMIUM, REGULAR, NORMAL)
      *
+     * 수락 제어 사용 시 비용이 큰 검색은 동시 실행 수가 제한됩니다 (대기 중에는 커넥션을 잡지 않음).
+     *
      * @param searchDto 검색 조건 DTO
      * @return List<UserResponseDto.WithStats> 주문 통계가 포함된 사용자 목록
+     * @throws UserSearchRejectedException 검색 비용 한도 초과 또는 비싼 검색 대기 시간 초과
      */
-    @Transactional(readOnly = true)
+    @Bulkhead(WorkloadClass.ANALYTICS)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<UserResponseDto.WithStats> searchUsersWithStats(UserRequestDto.Search searchDto) {
-        UserSearchCriteria criteria = convertToCriteria(searchDto);
-        List<Map<String, Object>> results = userRepository.searchUsersWithOrdersAndStats(criteria);
-
-        // Map을 DTO로 변환 (Java 8 호환)
-        return results.stream()
-                .map(this::mapToWithStatsDto)
-                .collect(Collectors.toList());
+        UserSearchCriteria criteria = searchDto.toCriteria();
+        if (searchAdmission != null) {
+            return searchAdmission.execute(criteria, true, () -> userRepository.searchUsersWithOrdersAndStats(criteria));
+        }
+        return userRepository.searchUsersWithOrdersAndStats(criteria);
     }
 
     /**
@@ -258,12 +708,16 @@ public class UserService {
      * 여러 사용자를 한 번에 생성합니다.
      * - 각 사용자에 대해 VO를 사용한 유효성 검증 수행
      * - 배치 INSERT로 성능 최적화
+     * - username/email 중복은 유니크 인덱스 위반으로 판단 (전체 롤백)
+     * - 생성된 ID는 같은 INSERT의 generated keys로 받아 엔티티에 설정
+     *   (드라이버가 multi-row INSERT의 키를 돌려주지 않으면 username으로 한 번 조회해 채움)
      *
      * @param requests 사용자 생성 요청 DTO 리스트
-     * @return int 생성된 사용자 수
+     * @return List<Long> 생성된 사용자 ID 리스트 (요청 순서)
      * @throws IllegalArgumentException 유효하지 않은 데이터가 포함된 경우
      */
-    public int batchCreateUsers(List<UserRequestDto.Create> requests) {
+    @Bulkhead(WorkloadClass.BATCH)
+    public List<Long> batchCreateUsers(List<UserRequestDto.Create> requests) {
         List<UserEntity> entities = requests.stream()
                 .map(request -> {
                     Username username = Username.of(request.getUsername());
@@ -277,54 +731,95 @@ public class UserService {
                 })
                 .collect(Collectors.toList());
 
-        return userRepository.batchInsertUsers(entities);
-    }
+        Long[] assignedIds = assignIds(entities);
+        try {
+            userRepository.batchInsertUsers(entities);
+        } catch (DataIntegrityViolationException e) {
+            UserUniqueConstraint constraint = UserUniqueConstraint.from(e);
+            if (constraint == null) {
+                throw e;
+            }
+            throw new IllegalArgumentException(constraint.message(UserUniqueConstraint.duplicateValue(e)), e);
+        }
+        if (assignedIds != null) {
+            restoreIds(entities, assignedIds);
+        } else if (entities.stream().anyMatch(entity -> entity.getId() == null)) {
+            fillGeneratedIds(entities);
+        }
 
-    // ==================== 헬퍼 메서드 ====================
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (UserEntity entity : entities) {
+            ids.add(entity.getId());
+            changeEventBus.publishAfterCommit(UserChangeEvent.Type.CREATED,
+                    entity.getId(), entity.getUsername(), null, CREATED_FIELDS);
+        }
+        return ids;
+    }
 
     /**
-     * SearchDto를 Criteria로 변환
-     * Controller 계층의 DTO를 Repository 계층의 검색 조건 객체로 변환합니다.
+     * ID 할당기가 있으면 엔티티에 ID를 미리 할당 (INSERT 시 ID를 직접 지정)
      *
-     * @param searchDto 검색 DTO
-     * @return UserSearchCriteria 검색 조건 객체
+     * @return Long[] 할당한 ID (할당기가 없으면 null)
      */
-    private UserSearchCriteria convertToCriteria(UserRequestDto.Search searchDto) {
-        UserSearchCriteria criteria = new UserSearchCriteria();
-        criteria.setId(searchDto.getId());
-        criteria.setUsername(searchDto.getUsername());
-        criteria.setEmail(searchDto.getEmail());
-        criteria.setUsernamePattern(searchDto.getUsernamePattern());
-        criteria.setEmailPattern(searchDto.getEmailPattern());
-        criteria.setMinId(searchDto.getMinId());
-        criteria.setMaxId(searchDto.getMaxId());
-        criteria.setStartDate(searchDto.getStartDate());
-        criteria.setEndDate(searchDto.getEndDate());
-        criteria.setIsActive(searchDto.getIsActive());
-        criteria.setUserStatus(searchDto.getUserStatus());
-        criteria.setOrderBy(searchDto.getOrderBy());
-        criteria.setSortDirection(searchDto.getSortDirection());
-        criteria.setLimit(searchDto.getLimit());
-        criteria.setOffset(searchDto.getOffset());
-        return criteria;
+    private Long[] assignIds(List<UserEntity> entities) {
+        if (idAllocator == null) {
+            return null;
+        }
+        long[] ids = idAllocator.nextIds(USER_ID_SEQUENCE, entities.size());
+        Long[] assigned = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            assigned[i] = ids[i];
+            entities.get(i).setId(ids[i]);
+        }
+        return assigned;
     }
 
     /**
-     * Map을 WithStatsDto로 변환
-     * Repository에서 반환한 Map 형태의 결과를 DTO로 변환합니다.
-     *
-     * @param map Repository 쿼리 결과 Map
-     * @return UserResponseDto.WithStats 주문 통계가 포함된 사용자 DTO
+     * ID 할당기가 있으면 upsert 행에 ID 지정 (기존 행은 기존 ID, 새 행은 할당기 ID)
+     * auto increment로 삽입하면 InnoDB 카운터가 할당기가 예약한 구간으로 올라가
+     * 이후 할당된 블록의 ID와 충돌하므로, 할당기를 쓰는 동안에는 모든 INSERT가 ID를 직접 지정해야 합니다.
      */
-    private UserResponseDto.WithStats mapToWithStatsDto(Map<String, Object> map) {
-        UserResponseDto.WithStats dto = new UserResponseDto.WithStats();
-        dto.setId(((Number) map.get("id")).longValue());
-        dto.setUsername((String) map.get("username"));
-        dto.setEmail((String) map.get("email"));
-        dto.setOrderCount(map.get("order_count") != null ? ((Number) map.get("order_count")).intValue() : 0);
-        dto.setTotalAmount(map.get("total_amount") != null ? ((Number) map.get("total_amount")).doubleValue() : 0.0);
-        dto.setCustomerTier((String) map.get("customer_tier"));
-        dto.setCreatedAt(map.get("created_at") != null ? map.get("created_at").toString() : null);
-        return dto;
+    private void assignUpsertIds(List<UserEntity> upsertable, Map<String, UserEntity> existing) {
+        if (idAllocator == null) {
+            return;
+        }
+        List<UserEntity> inserted = new ArrayList<>(upsertable.size());
+        for (UserEntity entity : upsertable) {
+            UserEntity before = existing.get(entity.getUsername());
+            if (before != null) {
+                entity.setId(before.getId());
+            } else {
+                inserted.add(entity);
+            }
+        }
+        assignIds(inserted);
+    }
+
+    /**
+     * 미리 할당한 ID 복원
+     * multi-row INSERT의 generated keys는 연속된 auto increment 값을 가정하므로,
+     * 블록 경계를 넘는 직접 지정 ID에서는 다른 값으로 덮어쓸 수 있습니다.
+     */
+    static void restoreIds(List<UserEntity> entities, Long[] assignedIds) {
+        for (int i = 0; i < assignedIds.length; i++) {
+            entities.get(i).setId(assignedIds[i]);
+        }
+    }
+
+    /**
+     * generated keys를 받지 못한 경우 username으로 ID 조회 (BULK_CHUNK_SIZE 단위)
+     */
+    private void fillGeneratedIds(List<UserEntity> entities) {
+        for (int from = 0; from < entities.size(); from += BULK_CHUNK_SIZE) {
+            List<UserEntity> chunk = entities.subList(from, Math.min(from + BULK_CHUNK_SIZE, entities.size()));
+            Map<String, Long> idByUsername = userRepository.findByUsernamesOrEmails(
+                    chunk.stream().map(UserEntity::getUsername).collect(Collectors.toList()),
+                    chunk.stream().map(UserEntity::getEmail).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(UserEntity::getUsername, UserEntity::getId));
+            for (UserEntity entity : chunk) {
+                entity.setId(idByUsername.get(entity.getUsername()));
+            }
+        }
     }
 }
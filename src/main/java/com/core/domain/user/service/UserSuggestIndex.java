@@ -0,0 +1,394 @@
+package com.core.domain.user.service;
+
+import com.core.common.text.SortedPrefixIndex;
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.event.UserChangeListener;
+import com.core.domain.user.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 활성 사용자명 자동 완성 인덱스
+ *
+ * 활성(is_active = true, 삭제되지 않음) 사용자명을 메모리에 두고 접두어로 상위 limit개를 찾습니다.
+ * - 기본 인덱스는 불변 SortedPrefixIndex(정렬 byte[] + 이진 탐색)이고, 이후 변경은 작은 추가/삭제 델타에 쌓입니다.
+ *   조회는 기본 인덱스와 델타를 합쳐 정렬 순서대로 반환하며, 델타가 compact-threshold를 넘으면 새 기본 인덱스로 합칩니다.
+ * - 기본 인덱스와 델타는 하나의 불변 Snapshot으로 묶여 volatile 참조 하나로 교체되므로,
+ *   조회는 항상 서로 맞는 기본 인덱스/델타 조합을 봅니다 (새 기본 인덱스와 이전 델타가 섞이지 않음).
+ * - 쓰기 경로는 UserChangeEventBus 이벤트로 반영합니다. 이벤트에는 활성 여부가 없으므로
+ *   사용자명/활성 여부가 바뀐 사용자는 flush-interval마다 ID 목록으로 한 번에 다시 조회합니다.
+ * - 이벤트가 유실되면 전체를 다시 읽고, 다른 노드의 변경은 rebuild-interval마다 전체 재구성으로 반영합니다.
+ * 인덱스 변경은 모두 단일 스레드(user-suggest-index)에서 수행되고, 조회는 잠금 없이 어느 스레드에서나 가능합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "core.user.suggest", name = "enabled", havingValue = "true")
+public class UserSuggestIndex implements UserChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSuggestIndex.class);
+
+    // 삭제 델타 항목당 추정 메모리 (String + char[] 헤더, 해시 노드)
+    private static final int REMOVED_ENTRY_OVERHEAD_BYTES = 80;
+
+    // 사용자명 최대 길이 (Username)
+    private static final int MAX_PREFIX_LENGTH = 50;
+
+    private final UserRepository userRepository;
+    private final int loadBatchSize;
+    private final int compactThreshold;
+    private final int maxLimit;
+    private final Duration flushInterval;
+    private final Duration rebuildInterval;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    private final Queue<UserChangeEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuildRequested = true;
+
+    private final LongAdder queries = new LongAdder();
+    private volatile long rebuilds;
+    private volatile long compactions;
+    private volatile long lastRebuildMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "user-suggest-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserSuggestIndex(UserRepository userRepository,
+                            @Value("${core.user.suggest.load-batch-size:5000}") int loadBatchSize,
+                            @Value("${core.user.suggest.compact-threshold:1024}") int compactThreshold,
+                            @Value("${core.user.suggest.max-limit:50}") int maxLimit,
+                            @Value("${core.user.suggest.flush-interval:PT0.2S}") Duration flushInterval,
+                            @Value("${core.user.suggest.rebuild-interval:PT10M}") Duration rebuildInterval) {
+        if (loadBatchSize <= 0 || compactThreshold <= 0) {
+            throw new IllegalArgumentException("자동 완성 로드 배치 크기와 델타 한도는 1 이상이어야 합니다");
+        }
+        this.userRepository = userRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.compactThreshold = compactThreshold;
+        this.maxLimit = maxLimit;
+        this.flushInterval = flushInterval;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                0, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> rebuildRequested = true,
+                rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 접두어로 시작하는 활성 사용자명 조회 (ASCII 대소문자 무시, 사용자명 순)
+     *
+     * @param prefix 접두어 (1~50자)
+     * @param limit 최대 개수 (1~max-limit)
+     * @return List&lt;String&gt; 사용자명 (최대 limit개)
+     * @throws IllegalArgumentException 접두어나 개수가 범위를 벗어난 경우
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("접두어는 1자 이상 " + MAX_PREFIX_LENGTH + "자 이하여야 합니다");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit은 1 이상 " + maxLimit + " 이하여야 합니다: " + limit);
+        }
+        queries.increment();
+        return snapshot.suggest(prefix, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void onUserChanged(UserChangeEvent event) {
+        pendingEvents.add(event);
+    }
+
+    @Override
+    public void onEventsLost(long fromGeneration, long toGeneration) {
+        rebuildRequested = true;
+    }
+
+    /**
+     * 인덱스 통계 (메모리 사용량 포함)
+     */
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        long deltaBytes = current.added.memoryBytes();
+        for (String username : current.removed) {
+            deltaBytes += REMOVED_ENTRY_OVERHEAD_BYTES + 2L * username.length();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("entries", current.size());
+        stats.put("baseEntries", current.base.size());
+        stats.put("addedEntries", current.added.size());
+        stats.put("removedEntries", current.removed.size());
+        stats.put("baseBytes", current.base.memoryBytes());
+        stats.put("deltaBytes", deltaBytes);
+        stats.put("memoryBytes", current.base.memoryBytes() + deltaBytes);
+        stats.put("pendingEvents", pendingEvents.size());
+        stats.put("queries", queries.sum());
+        stats.put("rebuilds", rebuilds);
+        stats.put("compactions", compactions);
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        return stats;
+    }
+
+    /**
+     * 갱신 주기 작업 (재구성 요청 처리, 대기 이벤트 반영, 델타 합치기)
+     * 인덱스 스레드에서만 호출합니다 (같은 패키지의 테스트는 직접 호출).
+     */
+    void refresh() {
+        try {
+            if (rebuildRequested) {
+                rebuildRequested = false;
+                rebuild();
+            }
+            applyPendingEvents();
+            Snapshot current = snapshot;
+            if (current.added.size() + current.removed.size() >= compactThreshold) {
+                snapshot = current.compact();
+                compactions++;
+            }
+        } catch (RuntimeException e) {
+            rebuildRequested = true;
+            log.warn("자동 완성 인덱스 갱신 실패 (다음 주기에 전체 재구성)", e);
+        }
+    }
+
+    /**
+     * DB에서 활성 사용자명을 모두 다시 읽어 기본 인덱스 교체
+     * (읽는 동안 커밋된 변경은 대기 중인 이벤트로 이어서 반영됨)
+     */
+    private void rebuild() {
+        long startNanos = System.nanoTime();
+        List<String> usernames = new ArrayList<>();
+        long afterId = 0;
+        List<UserEntity> chunk;
+        do {
+            chunk = userRepository.findActiveUsernames(afterId, loadBatchSize);
+            for (UserEntity user : chunk) {
+                usernames.add(user.getUsername());
+            }
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == loadBatchSize);
+
+        SortedPrefixIndex base = SortedPrefixIndex.of(usernames);
+        snapshot = new Snapshot(base, SortedPrefixIndex.empty(), Collections.emptySet());
+        ready = true;
+        rebuilds++;
+        lastRebuildMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("자동 완성 인덱스 재구성: {}명, {}바이트, {}ms", base.size(), base.memoryBytes(), lastRebuildMillis);
+    }
+
+    /**
+     * 대기 중인 이벤트 반영
+     * 삭제/사용자명 변경 전 이름은 바로 빼고, 사용자명·활성 여부가 바뀌었을 수 있는 사용자는 ID로 모아 한 번에 다시 조회합니다.
+     * 변경은 작업용 델타에 모아 마지막에 새 Snapshot 하나로 교체합니다.
+     */
+    private void applyPendingEvents() {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        Delta delta = new Delta(snapshot);
+        Map<Long, String> recheckIds = new HashMap<>();
+        List<String> recheckUsernames = new ArrayList<>();
+
+        UserChangeEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            if (event.getPreviousUsername() != null) {
+                delta.remove(event.getPreviousUsername());
+            }
+            if (event.getType() == UserChangeEvent.Type.DELETED) {
+                if (event.getUsername() != null) {
+                    delta.remove(event.getUsername());
+                }
+                continue;
+            }
+            if (event.getType() == UserChangeEvent.Type.UPDATED && !affectsIndex(event.getChangedFields())) {
+                continue;
+            }
+            if (event.getUserId() != null) {
+                recheckIds.put(event.getUserId(), event.getUsername());
+            } else if (event.getUsername() != null) {
+                recheckUsernames.add(event.getUsername());
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(recheckIds.keySet());
+        for (int from = 0; from < ids.size(); from += loadBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + loadBatchSize, ids.size()));
+            for (UserEntity user : userRepository.findUsernameStatesByIds(chunk)) {
+                delta.apply(user);
+                recheckIds.remove(user.getId());
+            }
+        }
+        // 조회되지 않은 ID는 그 사이 삭제된 사용자
+        for (String username : recheckIds.values()) {
+            if (username != null) {
+                delta.remove(username);
+            }
+        }
+
+        for (String username : recheckUsernames) {
+            UserEntity user = userRepository.findByUsername(username);
+            if (user == null || user.getDeletedAt() != null) {
+                delta.remove(username);
+            } else {
+                delta.apply(user);
+            }
+        }
+
+        snapshot = delta.toSnapshot();
+    }
+
+    private static boolean affectsIndex(Set<String> changedFields) {
+        return changedFields != null
+                && (changedFields.contains("username") || changedFields.contains("isActive"));
+    }
+
+    /**
+     * 기본 인덱스 + 추가/삭제 델타 (불변)
+     * 불변식: added와 base는 겹치지 않고, removed는 base에 있는 값만 포함합니다.
+     */
+    static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(SortedPrefixIndex.empty(), SortedPrefixIndex.empty(), Collections.emptySet());
+
+        final SortedPrefixIndex base;
+        final SortedPrefixIndex added;
+        final Set<String> removed;
+
+        Snapshot(SortedPrefixIndex base, SortedPrefixIndex added, Set<String> removed) {
+            this.base = base;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        int size() {
+            return base.size() + added.size() - removed.size();
+        }
+
+        /**
+         * 기본 인덱스(삭제 델타 제외)와 추가 델타의 접두어 결과를 정렬 병합
+         */
+        List<String> suggest(String prefix, int limit) {
+            List<String> fromBase = removed.isEmpty()
+                    ? base.startingWith(prefix, limit, username -> true)
+                    : base.startingWith(prefix, limit, username -> !removed.contains(username));
+            if (added.size() == 0) {
+                return fromBase;
+            }
+            List<String> fromDelta = added.startingWith(prefix, limit, username -> true);
+            if (fromDelta.isEmpty()) {
+                return fromBase;
+            }
+
+            List<String> merged = new ArrayList<>(Math.min(limit, fromBase.size() + fromDelta.size()));
+            int i = 0;
+            int j = 0;
+            while (merged.size() < limit && (i < fromBase.size() || j < fromDelta.size())) {
+                if (j >= fromDelta.size()
+                        || (i < fromBase.size() && SortedPrefixIndex.ORDER.compare(fromBase.get(i), fromDelta.get(j)) <= 0)) {
+                    merged.add(fromBase.get(i++));
+                } else {
+                    merged.add(fromDelta.get(j++));
+                }
+            }
+            return merged;
+        }
+
+        /**
+         * 델타를 합친 새 기본 인덱스
+         */
+        Snapshot compact() {
+            List<String> usernames = new ArrayList<>(size());
+            for (String username : base.values()) {
+                if (!removed.contains(username)) {
+                    usernames.add(username);
+                }
+            }
+            usernames.addAll(added.values());
+            return new Snapshot(SortedPrefixIndex.of(usernames), SortedPrefixIndex.empty(), Collections.emptySet());
+        }
+    }
+
+    /**
+     * Snapshot 델타의 작업용 복사본 (인덱스 스레드 전용)
+     */
+    static final class Delta {
+
+        private final SortedPrefixIndex base;
+        private final Set<String> added;
+        private final Set<String> removed;
+
+        Delta(Snapshot snapshot) {
+            this.base = snapshot.base;
+            this.added = new HashSet<>(snapshot.added.values());
+            this.removed = new HashSet<>(snapshot.removed);
+        }
+
+        void apply(UserEntity user) {
+            if (Boolean.TRUE.equals(user.getIsActive())) {
+                add(user.getUsername());
+            } else {
+                remove(user.getUsername());
+            }
+        }
+
+        void add(String username) {
+            removed.remove(username);
+            if (!base.contains(username)) {
+                added.add(username);
+            }
+        }
+
+        void remove(String username) {
+            added.remove(username);
+            if (base.contains(username)) {
+                removed.add(username);
+            }
+        }
+
+        Snapshot toSnapshot() {
+            return new Snapshot(base, SortedPrefixIndex.of(added), Collections.unmodifiableSet(removed));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.dto.TimestampFormat;
+import com.core.domain.user.dto.UserRequestDto;
+import com.core.domain.user.dto.UserResponseDto;
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.repository.UserRepository;
+import com.core.domain.user.repository.UserRepositorySqlProvider;
+import com.core.domain.user.vo.Email;
+import com.core.domain.user.vo.Username;
+import com.core.model.UserSearchCriteria;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시 웜업
+ *
+ * 배포 직후 첫 요청들이 느린 원인(빈 커넥션 풀, SQL 생성 코드, Jackson 직렬화기, 정규식, MyBatis 매핑)을
+ * 트래픽을 받기 전에 미리 실행합니다.
+ * ApplicationRunner로 실행되므로 웜업이 끝나야 Spring Boot가 ReadinessState.ACCEPTING_TRAFFIC을 발행하고,
+ * 그 전까지 준비 상태 API(/api/v1/health/readiness)는 503을 반환합니다.
+ * 각 단계는 실패해도 경고만 남기고 다음 단계로 진행합니다 (웜업 실패로 기동이 멈추지 않음).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "core.user.warm-up", name = "enabled", havingValue = "true")
+public class UserWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserWarmupRunner.class);
+
+    private final ObjectProvider<DataSource> dataSourceProvider;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int connections;
+    private final int iterations;
+
+    public UserWarmupRunner(ObjectProvider<DataSource> dataSourceProvider,
+                            UserRepository userRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${core.user.warm-up.connections:10}") int connections,
+                            @Value("${core.user.warm-up.iterations:1000}") int iterations) {
+        this.dataSourceProvider = dataSourceProvider;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.connections = connections;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startNanos = System.nanoTime();
+        step("커넥션 풀", this::warmUpConnectionPool);
+        step("MyBatis 매퍼", this::warmUpMappers);
+        step("SQL Provider", this::warmUpSqlProvider);
+        step("DTO 직렬화", this::warmUpSerialization);
+        step("값 객체 검증", this::warmUpValueObjects);
+        log.info("웜업 완료: {}ms", (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private void step(String name, Runnable warmUp) {
+        long startNanos = System.nanoTime();
+        try {
+            warmUp.run();
+            log.info("웜업 {}: {}ms", name, (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("웜업 {} 실패", name, e);
+        }
+    }
+
+    /**
+     * 커넥션을 동시에 connections개 빌려 풀이 미리 연결을 만들어 두도록 함
+     */
+    private void warmUpConnectionPool() {
+        DataSource dataSource = dataSourceProvider.getIfAvailable();
+        if (dataSource == null) {
+            return;
+        }
+        List<Connection> borrowed = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("커넥션을 열 수 없습니다 (" + borrowed.size() + "개 성공)", e);
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("웜업 커넥션 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 매퍼 프록시, 문장 파싱, 결과 매핑 경로 실행 (읽기 전용 조회)
+     */
+    private void warmUpMappers() {
+        userRepository.count();
+        userRepository.findById(0L);
+        userRepository.searchUsersWithDynamicQuery(sampleCriteria());
+        userRepository.countUsersWithDynamicQuery(sampleCriteria());
+    }
+
+    /**
+     * UserRepositorySqlProvider의 모든 public 메서드를 대표 검색 조건으로 호출
+     */
+    private void warmUpSqlProvider() {
+        UserRepositorySqlProvider provider = new UserRepositorySqlProvider();
+        UserEntity user = sampleUser();
+        UserSearchCriteria criteria = sampleCriteria();
+        Map<String, Object> params = sampleParams(user, criteria);
+
+        int failed = 0;
+        for (Method method : UserRepositorySqlProvider.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+                    || method.getReturnType() != String.class) {
+                continue;
+            }
+            Object[] arguments = new Object[method.getParameterCount()];
+            Class<?>[] types = method.getParameterTypes();
+            for (int i = 0; i < types.length; i++) {
+                arguments[i] = types[i] == UserEntity.class ? user
+                        : types[i] == UserSearchCriteria.class ? criteria
+                        : types[i] == Map.class ? params
+                        : null;
+            }
+            try {
+                for (int i = 0; i < iterations; i++) {
+                    method.invoke(provider, arguments);
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                failed++;
+                log.debug("웜업 SQL Provider 호출 실패: {}", method.getName(), e);
+            }
+        }
+        if (failed > 0) {
+            log.warn("웜업 SQL Provider 호출 실패: {}개 메서드", failed);
+        }
+    }
+
+    /**
+     * 응답 DTO 타입별 직렬화, 요청 DTO 역직렬화
+     */
+    private void warmUpSerialization() {
+        UserEntity user = sampleUser();
+        UserResponseDto.WithStats withStats = new UserResponseDto.WithStats();
+        withStats.setId(user.getId());
+        withStats.setUsername(user.getUsername());
+
+        List<Object> responses = Arrays.asList(
+                UserResponseDto.Basic.from(user),
+                UserResponseDto.Basic.from(user, TimestampFormat.EPOCH_MILLIS),
+                UserResponseDto.Detail.from(user),
+                UserResponseDto.Detail.from(user, TimestampFormat.EPOCH_MILLIS),
+                new UserResponseDto.Page(UserResponseDto.Basic.fromList(Collections.singletonList(user)), 0, 20, 1),
+                withStats,
+                UserResponseDto.BulkResult.of(user.getId(), UserResponseDto.BulkResult.Outcome.UPDATED));
+        String createJson = "{\"username\":\"warmup_user\",\"email\":\"warmup@example.com\"}";
+
+        try {
+            for (int i = 0; i < iterations; i++) {
+                for (Object response : responses) {
+                    objectMapper.writeValueAsBytes(response);
+                }
+                objectMapper.readValue(createJson, UserRequestDto.Create.class);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("DTO 직렬화 웜업 실패", e);
+        }
+    }
+
+    /**
+     * Email.of / Username.of 검증 (정규식 포함, 실패 경로 포함)
+     */
+    private void warmUpValueObjects() {
+        String[] invalidValues = {"", "a", "invalid email", "no-at-sign.example.com", "한글 사용자"};
+        for (int i = 0; i < iterations; i++) {
+            Username.of("warmup_user_" + i);
+            Email.of("warmup" + i + "@example.com");
+            String invalid = invalidValues[i % invalidValues.length];
+            try {
+                Username.of(invalid);
+            } catch (IllegalArgumentException expected) {
+                // 검증 실패 경로도 웜업 대상
+            }
+            try {
+                Email.of(invalid);
+            } catch (IllegalArgumentException expected) {
+                // 검증 실패 경로도 웜업 대상
+            }
+        }
+    }
+
+    private static UserEntity sampleUser() {
+        UserEntity user = new UserEntity(1L, "warmup_user", "warmup@example.com");
+        user.setIsActive(true);
+        user.setStatus("ACTIVE");
+        user.setOrderCount(0);
+        user.setCustomerTier("NORMAL");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    private static UserSearchCriteria sampleCriteria() {
+        UserSearchCriteria criteria = new UserSearchCriteria();
+        criteria.setUsernamePattern("warmup");
+        criteria.setIsActive(true);
+        criteria.setUserStatus("active");
+        criteria.setStartDate("2000-01-01");
+        criteria.setEndDate("2000-01-02");
+        criteria.setSearchKeywords(Arrays.asList("warmup", "example"));
+        criteria.setEmailDomains(Collections.singletonList("example.com"));
+        criteria.setOrderBy("created_at");
+        criteria.setSortDirection("DESC");
+        criteria.setLimit(20);
+        criteria.setOffset(0);
+        return criteria;
+    }
+
+    /**
+     * Map 파라미터를 받는 Provider 메서드용 (메서드마다 필요한 키를 모두 포함)
+     */
+    private static Map<String, Object> sampleParams(UserEntity user, UserSearchCriteria criteria) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", user.getId());
+        params.put("username", user.getUsername());
+        params.put("email", user.getEmail());
+        params.put("isActive", true);
+        params.put("status", "ACTIVE");
+        params.put("list", Arrays.asList(user, user));
+        params.put("items", Arrays.asList(user, user));
+        params.put("ids", Arrays.asList(1L, 2L));
+        params.put("usernames", Arrays.asList(user.getUsername(), "warmup_other"));
+        params.put("emails", Arrays.asList(user.getEmail(), "other@example.com"));
+        params.put("criteria", criteria);
+        params.put("afterId", 0L);
+        params.put("limit", 100);
+        return params;
+    }
+}
@@ -2,6 +2,7 @@ package com.core.mapper;
 
 import com.core.model.User;
 import com.core.model.UserSearchCriteria;
+import com.core.model.UserStats;
 import org.apache.ibatis.annotations.*;
 
 import java.util.List;
@@ -104,5 +105,15 @@ public interface UserMapper {
      * 주문 정보와 통계를 포함한 사용자 검색 (복잡한 JOIN)
      */
     @SelectProvider(type = UserSqlProvider.class, method = "searchUsersWithJoinAndAggregation")
-    List<Map<String, Object>> searchUsersWithOrdersAndStats(UserSearchCriteria criteria);
+    @Results(id = "userStatsResultMap", value = {
+        @Result(property = "id", column = "id", id = true),
+        @Result(property = "username", column = "username"),
+        @Result(property = "email", column = "email"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "orderCount", column = "order_count"),
+        @Result(property = "totalAmount", column = "total_amount"),
+        @Result(property = "avgAmount", column = "avg_amount"),
+        @Result(property = "customerTier", column = "customer_tier")
+    })
+    List<UserStats> searchUsersWithOrdersAndStats(UserSearchCriteria criteria);
 }
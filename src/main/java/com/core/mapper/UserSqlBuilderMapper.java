@@ -2,6 +2,7 @@ package com.core.mapper;
 
 import com.core.model.User;
 import com.core.model.UserSearchCriteria;
+import com.core.model.UserStats;
 import org.apache.ibatis.annotations.*;
 
 import java.util.List;
@@ -37,7 +38,20 @@ public interface UserSqlBuilderMapper {
      * 복잡한 JOIN과 집계를 포함한 검색
      */
     @SelectProvider(type = UserSqlProvider.class, method = "searchUsersWithJoinAndAggregation")
-    List<Map<String, Object>> searchUsersWithJoinAndAggregation(UserSearchCriteria criteria);
+    @Results(id = "userStatsResultMap", value = {
+        @Result(property = "id", column = "id", id = true),
+        @Result(property = "username", column = "username"),
+        @Result(property = "email", column = "email"),
+        @Result(property = "createdAt", column = "created_at"),
+        @Result(property = "orderCount", column = "order_count"),
+        @Result(property = "totalAmount", column = "total_amount"),
+        @Result(property = "avgAmount", column = "avg_amount"),
+        @Result(property = "customerTier", column = "customer_tier"),
+        @Result(property = "lastOrderDate", column = "last_order_date"),
+        @Result(property = "source", column = "source"),
+        @Result(property = "statusDisplay", column = "status_display")
+    })
+    List<UserStats> searchUsersWithJoinAndAggregation(UserSearchCriteria criteria);
 
     /**
      * 동적 UPDATE - NULL이 아닌 필드만 업데이트
@@ -61,19 +75,22 @@ public interface UserSqlBuilderMapper {
      * UNION 쿼리 - 여러 소스의 데이터 결합
      */
     @SelectProvider(type = UserSqlProvider.class, method = "searchUsersWithUnion")
-    List<Map<String, Object>> searchUsersWithUnion(UserSearchCriteria criteria);
+    @ResultMap("userStatsResultMap")
+    List<UserStats> searchUsersWithUnion(UserSearchCriteria criteria);
 
     /**
      * CTE(Common Table Expression)를 사용한 복잡한 쿼리
      */
     @SelectProvider(type = UserSqlProvider.class, method = "searchUsersWithCTE")
-    List<Map<String, Object>> searchUsersWithCTE(UserSearchCriteria criteria);
+    @ResultMap("userStatsResultMap")
+    List<UserStats> searchUsersWithCTE(UserSearchCriteria criteria);
 
     /**
      * 동적 CASE WHEN 절을 포함한 검색
      */
     @SelectProvider(type = UserSqlProvider.class, method = "selectUsersWithDynamicCase")
-    List<Map<String, Object>> selectUsersWithDynamicCase(UserSearchCriteria criteria);
+    @ResultMap("userStatsResultMap")
+    List<UserStats> selectUsersWithDynamicCase(UserSearchCriteria criteria);
 
     // ==================== Annotation 기반 동적 쿼리 추가 예시 ====================
 
@@ -184,12 +201,7 @@ public interface UserSqlBuilderMapper {
         "  u.created_at,",
         "  COALESCE(o.order_count, 0) AS order_count,",
         "  COALESCE(o.total_amount, 0) AS total_amount,",
-        "  CASE",
-        "    WHEN COALESCE(o.order_count, 0) >= 100 THEN 'VIP'",
-        "    WHEN COALESCE(o.order_count, 0) >= 50 THEN 'PREMIUM'",
-        "    WHEN COALESCE(o.order_count, 0) >= 10 THEN 'REGULAR'",
-        "    ELSE 'NORMAL'",
-        "  END AS customer_tier",
+        "  u.customer_tier",
         "FROM users u",
         "<if test='hasOrders == null or hasOrders == true'>",
         "  LEFT JOIN (",
@@ -214,14 +226,7 @@ public interface UserSqlBuilderMapper {
         "    AND COALESCE(o.order_count, 0) >= #{minOrderCount}",
         "  </if>",
         "  <if test='priorityLevel != null'>",
-        "    AND (",
-        "      CASE",
-        "        WHEN COALESCE(o.order_count, 0) >= 100 THEN 'VIP'",
-        "        WHEN COALESCE(o.order_count, 0) >= 50 THEN 'PREMIUM'",
-        "        WHEN COALESCE(o.order_count, 0) >= 10 THEN 'REGULAR'",
-        "        ELSE 'NORMAL'",
-        "      END",
-        "    ) = #{priorityLevel}",
+        "    AND u.customer_tier = #{priorityLevel}",
         "  </if>",
         "</where>",
         "<choose>",
@@ -242,5 +247,6 @@ public interface UserSqlBuilderMapper {
         "</if>",
         "</script>"
     })
-    List<Map<String, Object>> complexAnnotationDynamicQuery(UserSearchCriteria criteria);
+    @ResultMap("userStatsResultMap")
+    List<UserStats> complexAnnotationDynamicQuery(UserSearchCriteria criteria);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.core.mapper;
 
+import com.core.domain.user.vo.CustomerTier;
 import com.core.model.User;
 import com.core.model.UserSearchCriteria;
 import org.apache.ibatis.jdbc.SQL;
@@ -118,11 +119,7 @@ public class UserSqlProvider {
             }
 
             if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-                SELECT("CASE " +
-                       "WHEN u.order_count >= 100 THEN 'VIP' " +
-                       "WHEN u.order_count >= 50 THEN 'PREMIUM' " +
-                       "WHEN u.order_count >= 10 THEN 'REGULAR' " +
-                       "ELSE 'NORMAL' END AS priority_level");
+                SELECT("u.customer_tier AS priority_level");
             }
 
             FROM("users u");
@@ -212,13 +209,9 @@ public class UserSqlProvider {
                 WHERE("u.id IN (SELECT o.user_id FROM orders o GROUP BY o.user_id HAVING COUNT(*) >= #{minOrderCount})");
             }
 
-            // 10. CASE WHEN 조건
+            // 10. 고객 등급 조건 (customer_tier 인덱스 사용)
             if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-                WHERE("(CASE " +
-                      "WHEN u.order_count >= 100 THEN 'VIP' " +
-                      "WHEN u.order_count >= 50 THEN 'PREMIUM' " +
-                      "WHEN u.order_count >= 10 THEN 'REGULAR' " +
-                      "ELSE 'NORMAL' END) = #{priorityLevel}");
+                WHERE("u.customer_tier = #{priorityLevel}");
             }
 
             // 11. 이메일 도메인 검색 (OR 조건)
@@ -308,11 +301,7 @@ public class UserSqlProvider {
             SELECT("COALESCE(stats.order_count, 0) AS order_count");
             SELECT("COALESCE(stats.total_amount, 0) AS total_amount");
             SELECT("COALESCE(stats.avg_amount, 0) AS avg_amount");
-            SELECT("CASE " +
-                   "WHEN COALESCE(stats.order_count, 0) >= 100 THEN 'VIP' " +
-                   "WHEN COALESCE(stats.order_count, 0) >= 50 THEN 'PREMIUM' " +
-                   "WHEN COALESCE(stats.order_count, 0) >= 10 THEN 'REGULAR' " +
-                   "ELSE 'NORMAL' END AS customer_tier");
+            SELECT("u.customer_tier");
 
             FROM("users u");
 
@@ -348,11 +337,7 @@ public class UserSqlProvider {
             }
 
             if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-                WHERE("(CASE " +
-                      "WHEN COALESCE(stats.order_count, 0) >= 100 THEN 'VIP' " +
-                      "WHEN COALESCE(stats.order_count, 0) >= 50 THEN 'PREMIUM' " +
-                      "WHEN COALESCE(stats.order_count, 0) >= 10 THEN 'REGULAR' " +
-                      "ELSE 'NORMAL' END) = #{priorityLevel}");
+                WHERE("u.customer_tier = #{priorityLevel}");
             }
 
             // 동적 정렬
@@ -394,6 +379,9 @@ public class UserSqlProvider {
 
             if (params.containsKey("orderCount") && params.get("orderCount") != null) {
                 SET("order_count = #{orderCount}");
+                // 주문 수가 바뀌면 고객 등급도 함께 갱신 (enum 상수명이므로 리터럴로 안전)
+                CustomerTier tier = CustomerTier.fromOrderCount(((Number) params.get("orderCount")).intValue());
+                SET("customer_tier = '" + tier.name() + "'");
             }
 
             // 항상 업데이트 시간 갱신
@@ -524,30 +512,15 @@ public class UserSqlProvider {
             }
             GROUP_BY("user_id");
         }}.toString());
-        sql.append("), ");
-
-        // 두 번째 CTE - 사용자 등급 계산
-        sql.append("user_tiers AS (");
-        sql.append(new SQL() {{
-            SELECT("user_id");
-            SELECT("order_count");
-            SELECT("CASE " +
-                   "WHEN order_count >= 100 THEN 'VIP' " +
-                   "WHEN order_count >= 50 THEN 'PREMIUM' " +
-                   "WHEN order_count >= 10 THEN 'REGULAR' " +
-                   "ELSE 'NORMAL' END AS tier");
-            FROM("user_stats");
-        }}.toString());
         sql.append(") ");
 
         // 메인 쿼리
         sql.append(new SQL() {{
             SELECT("u.id", "u.username", "u.email", "u.created_at");
-            SELECT("COALESCE(ut.order_count, 0) AS order_count");
-            SELECT("COALESCE(ut.tier, 'NORMAL') AS customer_tier");
+            SELECT("COALESCE(us.order_count, 0) AS order_count");
+            SELECT("u.customer_tier");
             SELECT("us.total_amount", "us.last_order_date");
             FROM("users u");
-            LEFT_OUTER_JOIN("user_tiers ut ON u.id = ut.user_id");
             LEFT_OUTER_JOIN("user_stats us ON u.id = us.user_id");
 
             if (criteria.getUsernamePattern() != null && !criteria.getUsernamePattern().isEmpty()) {
@@ -555,11 +528,11 @@ public class UserSqlProvider {
             }
 
             if (criteria.getPriorityLevel() != null && !criteria.getPriorityLevel().isEmpty()) {
-                WHERE("ut.tier = #{priorityLevel}");
+                WHERE("u.customer_tier = #{priorityLevel}");
             }
 
             if (criteria.getMinOrderCount() != null && criteria.getMinOrderCount() > 0) {
-                WHERE("COALESCE(ut.order_count, 0) >= #{minOrderCount}");
+                WHERE("COALESCE(us.order_count, 0) >= #{minOrderCount}");
             }
 
             ORDER_BY("u.id DESC");
@@ -575,14 +548,9 @@ public class UserSqlProvider {
         return new SQL() {{
             SELECT("u.id", "u.username", "u.email");
 
-            // 동적으로 CASE WHEN 절 생성
-            StringBuilder caseWhen = new StringBuilder("CASE ");
+            // 고객 등급 (저장된 customer_tier 컬럼)
             if (criteria.getPriorityLevel() != null) {
-                caseWhen.append("WHEN u.order_count >= 100 THEN 'VIP' ")
-                        .append("WHEN u.order_count >= 50 THEN 'PREMIUM' ")
-                        .append("WHEN u.order_count >= 10 THEN 'REGULAR' ")
-                        .append("ELSE 'NORMAL' END AS tier");
-                SELECT(caseWhen.toString());
+                SELECT("u.customer_tier");
             }
 
             // 추가 동적 CASE - 상태 표시
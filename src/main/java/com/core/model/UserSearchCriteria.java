@@ -1,6 +1,8 @@
 package com.core.model;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * 사용자 검색 조건 DTO
@@ -237,6 +239,117 @@ public class UserSearchCriteria {
         this.priorityLevel = priorityLevel;
     }
 
+    /**
+     * 검색 조건 정규화
+     * 문자열은 trim하고 빈 문자열은 null로, 빈 리스트는 null로, 정렬 방향은 대문자로 바꿉니다.
+     * (리스트의 문자열 항목도 trim하고 null/빈 항목은 제외)
+     * SQL 생성과 toCanonicalString 모두 정규화된 값을 보도록 조건을 만든 직후 한 번 호출합니다.
+     *
+     * @return UserSearchCriteria 이 객체
+     */
+    public UserSearchCriteria normalize() {
+        username = normalize(username);
+        email = normalize(email);
+        usernamePattern = normalize(usernamePattern);
+        emailPattern = normalize(emailPattern);
+        startDate = normalize(startDate);
+        endDate = normalize(endDate);
+        ids = ids == null || ids.isEmpty() ? null : ids;
+        usernames = normalize(usernames);
+        emailDomains = normalize(emailDomains);
+        orderBy = normalize(orderBy);
+        sortDirection = normalize(sortDirection);
+        if (sortDirection != null) {
+            sortDirection = sortDirection.toUpperCase(Locale.ROOT);
+        }
+        userStatus = normalize(userStatus);
+        searchKeywords = normalize(searchKeywords);
+        priorityLevel = normalize(priorityLevel);
+        return this;
+    }
+
+    /**
+     * 검색 조건 키 문자열
+     * SQL에 바인딩되는 값을 변환 없이 그대로 담습니다. (값 정규화는 normalize에서 미리 수행)
+     * 문자열은 "길이:값"으로 길이를 앞에 붙여 구분자가 값에 들어 있어도 다른 조건과 같은 문자열이 되지 않습니다.
+     * 캐시 키, 요청 병합 키, ETag 계산에 사용합니다.
+     */
+    public String toCanonicalString() {
+        StringBuilder sb = new StringBuilder(128);
+        appendCanonical(sb, "id", id);
+        appendCanonical(sb, "username", username);
+        appendCanonical(sb, "email", email);
+        appendCanonical(sb, "usernamePattern", usernamePattern);
+        appendCanonical(sb, "emailPattern", emailPattern);
+        appendCanonical(sb, "minId", minId);
+        appendCanonical(sb, "maxId", maxId);
+        appendCanonical(sb, "startDate", startDate);
+        appendCanonical(sb, "endDate", endDate);
+        appendCanonical(sb, "ids", ids);
+        appendCanonical(sb, "usernames", usernames);
+        appendCanonical(sb, "emailDomains", emailDomains);
+        appendCanonical(sb, "orderBy", orderBy);
+        appendCanonical(sb, "sortDirection", sortDirection);
+        appendCanonical(sb, "limit", limit);
+        appendCanonical(sb, "offset", offset);
+        appendCanonical(sb, "includeDeleted", includeDeleted);
+        appendCanonical(sb, "isActive", isActive);
+        appendCanonical(sb, "userStatus", userStatus);
+        appendCanonical(sb, "searchKeywords", searchKeywords);
+        appendCanonical(sb, "hasOrders", hasOrders);
+        appendCanonical(sb, "minOrderCount", minOrderCount);
+        appendCanonical(sb, "priorityLevel", priorityLevel);
+        return sb.toString();
+    }
+
+    private static void appendCanonical(StringBuilder sb, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(name).append('=');
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            sb.append('[').append(values.size()).append(']');
+            for (Object element : values) {
+                appendValue(sb, element);
+            }
+        } else {
+            appendValue(sb, value);
+        }
+        sb.append(';');
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append('~');
+            return;
+        }
+        String text = value.toString();
+        sb.append(text.length()).append(':').append(text);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> normalized = new ArrayList<>(values.size());
+        for (String value : values) {
+            String trimmed = normalize(value);
+            if (trimmed != null) {
+                normalized.add(trimmed);
+            }
+        }
+        return normalized.isEmpty() ? null : normalized;
+    }
+
     @Override
     public String toString() {
         return "UserSearchCriteria{" +
@@ -0,0 +1,129 @@
+package com.core.model;
+
+/**
+ * 사용자 통계 모델
+ * JOIN/집계/UNION/CTE 쿼리 결과를 Map 대신 직접 매핑하기 위한 모델
+ * 쿼리마다 조회하는 컬럼이 다르므로, 결과에 없는 컬럼의 필드는 null로 남습니다.
+ */
+public class UserStats {
+    private Long id;
+    private String username;
+    private String email;
+    private String createdAt;
+    private Integer orderCount;
+    private Double totalAmount;
+    private Double avgAmount;
+    private String customerTier;
+    private String lastOrderDate;
+    private String source;
+    private String statusDisplay;
+
+    public UserStats() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Integer orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public Double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(Double totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public Double getAvgAmount() {
+        return avgAmount;
+    }
+
+    public void setAvgAmount(Double avgAmount) {
+        this.avgAmount = avgAmount;
+    }
+
+    public String getCustomerTier() {
+        return customerTier;
+    }
+
+    public void setCustomerTier(String customerTier) {
+        this.customerTier = customerTier;
+    }
+
+    public String getLastOrderDate() {
+        return lastOrderDate;
+    }
+
+    public void setLastOrderDate(String lastOrderDate) {
+        this.lastOrderDate = lastOrderDate;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getStatusDisplay() {
+        return statusDisplay;
+    }
+
+    public void setStatusDisplay(String statusDisplay) {
+        this.statusDisplay = statusDisplay;
+    }
+
+    @Override
+    public String toString() {
+        return "UserStats{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", email='" + email + '\'' +
+                ", createdAt='" + createdAt + '\'' +
+                ", orderCount=" + orderCount +
+                ", totalAmount=" + totalAmount +
+                ", avgAmount=" + avgAmount +
+                ", customerTier='" + customerTier + '\'' +
+                ", lastOrderDate='" + lastOrderDate + '\'' +
+                ", source='" + source + '\'' +
+                ", statusDisplay='" + statusDisplay + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+-- 고객 등급(customer_tier) 컬럼 추가
+-- order_count 기준으로 계산되던 등급을 저장하여, 등급 조건 검색이 인덱스를 사용하도록 합니다.
+-- 등급 기준: VIP >= 100, PREMIUM >= 50, REGULAR >= 10, 그 외 NORMAL (CustomerTier 참고)
+
+ALTER TABLE users
+    ADD COLUMN customer_tier VARCHAR(10) NOT NULL DEFAULT 'NORMAL' AFTER order_count;
+
+CREATE INDEX idx_users_customer_tier ON users (customer_tier, id);
+
+-- 기존 행 백필은 CustomerTierBackfillJob (core.user.customer-tier.backfill-on-startup=true)으로
+-- ID 구간 단위로 나누어 수행합니다.
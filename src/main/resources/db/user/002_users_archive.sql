@@ -0,0 +1,21 @@
+-- 삭제 사용자 아카이브 테이블
+-- 사용자 삭제는 deleted_at만 설정(soft delete)하고, 보존 기간이 지난 행은
+-- UserArchiver가 배치 단위로 users_archive로 옮긴 뒤 users에서 제거합니다.
+
+CREATE TABLE users_archive (
+    id            BIGINT       NOT NULL,
+    username      VARCHAR(50)  NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    is_active     BOOLEAN,
+    status        VARCHAR(20),
+    order_count   INT          NOT NULL DEFAULT 0,
+    customer_tier VARCHAR(10)  NOT NULL DEFAULT 'NORMAL',
+    created_at    DATETIME,
+    updated_at    DATETIME,
+    deleted_at    DATETIME     NOT NULL,
+    archived_at   DATETIME     NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 아카이브 대상(보존 기간이 지난 삭제 사용자) 범위 조회용
+CREATE INDEX idx_users_deleted_at ON users (deleted_at);
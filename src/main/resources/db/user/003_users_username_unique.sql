@@ -0,0 +1,11 @@
+-- username 유니크 인덱스 (삭제되지 않은 사용자만)
+-- soft delete된 행은 username_live가 NULL이 되어 유니크 검사에서 빠지므로,
+-- 삭제된 사용자의 사용자명은 아카이브 여부와 관계없이 바로 다시 쓸 수 있습니다.
+-- 사용자 동기화(upsert)의 INSERT ... ON DUPLICATE KEY UPDATE가 이 인덱스로 충돌을 판단하며,
+-- 삭제된 사용자와 같은 사용자명은 복구하지 않고 새 사용자로 생성합니다 (사용자 생성 API와 동일).
+-- 주의: email 유니크 인덱스(004)와 충돌해도 UPDATE로 처리되므로,
+--       UserService.upsertUsers는 다른 사용자의 이메일을 가진 항목을 먼저 제외합니다.
+
+ALTER TABLE users
+    ADD COLUMN username_live VARCHAR(50) AS (IF(deleted_at IS NULL, username, NULL)) VIRTUAL,
+    ADD UNIQUE KEY uk_users_username_live (username_live);
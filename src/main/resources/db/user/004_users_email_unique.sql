@@ -0,0 +1,8 @@
+-- email 유니크 인덱스 (삭제되지 않은 사용자만)
+-- 사용자 생성 시 사전 중복 조회(existsByUsername/existsByEmail) 없이 INSERT 한 번만 실행하고,
+-- 중복은 uk_users_username_live / uk_users_email_live 위반으로 판단합니다 (UserUniqueConstraint).
+-- username(003)과 같이 soft delete된 사용자의 이메일은 유니크 검사에서 빠집니다.
+
+ALTER TABLE users
+    ADD COLUMN email_live VARCHAR(100) AS (IF(deleted_at IS NULL, email, NULL)) VIRTUAL,
+    ADD UNIQUE KEY uk_users_email_live (email_live);
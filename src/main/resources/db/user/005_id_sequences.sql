@@ -0,0 +1,20 @@
+-- 블록 단위 ID 할당(hi/lo) 시퀀스 테이블 (IdBlockAllocator)
+-- 각 노드가 UPDATE 한 문장으로 next_value를 block-size만큼 올려 [이전 값, 새 값) 구간을 예약합니다.
+
+CREATE TABLE id_sequences (
+    name       VARCHAR(50) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- 사용자 ID 시퀀스: 이미 쓰였거나 auto increment가 다음에 줄 수 있는 ID 다음부터 시작
+-- (아카이브로 옮겨진 ID, 마지막 행 삭제 후에도 남아 있는 auto increment 카운터 포함)
+-- information_schema.TABLES.AUTO_INCREMENT는 캐시된 값일 수 있으므로 ANALYZE TABLE로 먼저 갱신합니다.
+ANALYZE TABLE users;
+
+INSERT INTO id_sequences (name, next_value)
+SELECT 'users', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM users),
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM users_archive),
+    (SELECT COALESCE(MAX(AUTO_INCREMENT), 1) FROM information_schema.TABLES
+      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users'));
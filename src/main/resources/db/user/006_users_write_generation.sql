@@ -0,0 +1,21 @@
+-- users 테이블 쓰기 세대 (목록/검색/개수 ETag 검증값, UserCollectionVersion)
+-- 트리거가 users의 모든 INSERT/UPDATE/DELETE와 같은 트랜잭션에서 세대를 올리므로,
+-- 다른 노드의 쓰기, 주문 수 반영, 아카이브 삭제, 수동 SQL도 모두 반영됩니다.
+-- 주의: 세대 행 잠금은 쓰기 트랜잭션 커밋까지 유지되므로 users 쓰기 트랜잭션은 이 행에서 직렬화됩니다.
+
+CREATE TABLE users_write_generation (
+    id         TINYINT NOT NULL,
+    generation BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO users_write_generation (id, generation) VALUES (1, 0);
+
+CREATE TRIGGER trg_users_write_generation_insert AFTER INSERT ON users FOR EACH ROW
+    UPDATE users_write_generation SET generation = generation + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_users_write_generation_update AFTER UPDATE ON users FOR EACH ROW
+    UPDATE users_write_generation SET generation = generation + 1 WHERE id = 1;
+
+CREATE TRIGGER trg_users_write_generation_delete AFTER DELETE ON users FOR EACH ROW
+    UPDATE users_write_generation SET generation = generation + 1 WHERE id = 1;
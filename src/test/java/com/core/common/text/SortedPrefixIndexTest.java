@@ -0,0 +1,69 @@
+package com.core.common.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SortedPrefixIndex 테스트
+ * 전체 목록을 직접 걸러 정렬한 결과와 같은지 확인
+ */
+class SortedPrefixIndexTest {
+
+    @Test
+    @DisplayName("대소문자를 무시하고 접두어로 시작하는 값을 정렬 순서대로 limit개 반환")
+    void testStartingWith_IgnoresCaseAndLimits() {
+        SortedPrefixIndex index = SortedPrefixIndex.of(Arrays.asList("bob", "alice", "Albert", "alfred", "al", "carol", "alice"));
+
+        assertEquals(6, index.size());
+        assertEquals(Arrays.asList("al", "Albert", "alfred", "alice"), index.startingWith("AL", 10, value -> true));
+        assertEquals(Arrays.asList("al", "Albert"), index.startingWith("al", 2, value -> true));
+        assertEquals(Arrays.asList("Albert", "alice"), index.startingWith("al", 10, value -> !value.startsWith("alf") && value.length() > 2));
+        assertTrue(index.startingWith("d", 10, value -> true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("무작위 값에 대해 전체 조회 결과와 동일")
+    void testStartingWith_SameAsFullScan() {
+        Random random = new Random(42);
+        String alphabet = "abcXYZ_-019";
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder value = new StringBuilder();
+            for (int j = 3 + random.nextInt(6); j > 0; j--) {
+                value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            values.add(value.toString());
+        }
+        SortedPrefixIndex index = SortedPrefixIndex.of(values);
+
+        for (int i = 0; i < 500; i++) {
+            String prefix = values.get(random.nextInt(values.size())).substring(0, 1 + random.nextInt(3));
+            List<String> expected = values.stream()
+                    .filter(value -> value.toLowerCase().startsWith(prefix.toLowerCase()))
+                    .distinct()
+                    .sorted(SortedPrefixIndex.ORDER)
+                    .limit(10)
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.startingWith(prefix, 10, value -> true), prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("contains는 대소문자 구분")
+    void testContains_CaseSensitive() {
+        SortedPrefixIndex index = SortedPrefixIndex.of(Arrays.asList("alice", "Bob"));
+
+        assertTrue(index.contains("alice"));
+        assertTrue(index.contains("Bob"));
+        assertFalse(index.contains("bob"));
+        assertFalse(SortedPrefixIndex.empty().contains("alice"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.core.common.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IsoDateTimeWriter 테스트
+ * DateTimeFormatter.ISO_LOCAL_DATE_TIME과 결과가 동일한지 확인
+ */
+class IsoDateTimeWriterTest {
+
+    @Test
+    @DisplayName("ISO_LOCAL_DATE_TIME과 동일한 문자열 생성")
+    void testFormat_SameAsIsoFormatter() {
+        LocalDateTime[] values = {
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 59),
+                LocalDateTime.of(1999, 2, 3, 4, 5, 6, 500_000_000),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_000_000),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_456_789),
+                LocalDateTime.of(2024, 1, 15, 10, 30, 0, 1),
+                LocalDateTime.of(1, 1, 1, 0, 0, 0),
+                LocalDateTime.of(12345, 6, 7, 8, 9, 10)
+        };
+
+        for (LocalDateTime value : values) {
+            assertEquals(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), IsoDateTimeWriter.format(value));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 초 단위 값은 직전 문자열 재사용")
+    void testFormat_ReusesSameSecond() {
+        LocalDateTime value = LocalDateTime.of(2024, 5, 1, 9, 0, 0);
+
+        String first = IsoDateTimeWriter.format(value);
+        String second = IsoDateTimeWriter.format(LocalDateTime.of(2024, 5, 1, 9, 0, 0));
+
+        assertSame(first, second);
+        assertEquals("2024-05-01T09:01:00", IsoDateTimeWriter.format(value.plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("NULL 입력 처리 및 epoch millis 변환")
+    void testNullAndEpochMillis() {
+        assertNull(IsoDateTimeWriter.format(null));
+        assertNull(IsoDateTimeWriter.toEpochMillis(null));
+
+        LocalDateTime value = LocalDateTime.of(2024, 1, 15, 10, 30, 0);
+        long expected = value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(expected, IsoDateTimeWriter.toEpochMillis(value));
+    }
+}
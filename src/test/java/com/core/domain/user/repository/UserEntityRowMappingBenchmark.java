@@ -0,0 +1,222 @@
+package com.core.domain.user.repository;
+
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.parsing.PropertyParser;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * UserEntity 결과 매핑 벤치마크
+ *
+ * 같은 메모리 ResultSet을 MyBatis 기본 매핑(userEntityResultMap)과 UserEntityResultSetInterceptor로 각각 변환해
+ * 행당 시간을 비교합니다. DB 없이 실행되므로 드라이버/네트워크 비용은 빠지고 매핑 비용만 측정됩니다.
+ * (ResultSet은 동적 프록시라 두 방식 모두 JDBC 호출마다 같은 부가 비용이 더해짐)
+ *
+ * 실행: ./gradlew rowMappingBenchmark [-Pargs="행 수 반복 수"]
+ */
+public final class UserEntityRowMappingBenchmark {
+
+    private static final String STATEMENT_ID = UserRepository.class.getName() + ".findAll";
+
+    private static final int[] SQL_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.VARCHAR, Types.INTEGER, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private UserEntityRowMappingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        // UserRepository의 @CacheNamespace 속성 기본값(${...:기본값}) 해석용 (애플리케이션 설정과 동일)
+        Properties variables = new Properties();
+        variables.setProperty(PropertyParser.KEY_ENABLE_DEFAULT_VALUE, "true");
+        Configuration configuration = new Configuration();
+        configuration.setVariables(variables);
+        configuration.addMapper(UserRepository.class);
+        MappedStatement mappedStatement = configuration.getMappedStatement(STATEMENT_ID);
+
+        Object[][] data = sampleRows(rows);
+        UserEntityResultSetInterceptor interceptor = new UserEntityResultSetInterceptor(new String[]{"findAll"});
+
+        System.out.printf("rows=%d, iterations=%d%n", rows, iterations);
+        for (int round = 1; round <= 3; round++) {
+            double mybatis = measure(() -> newHandler(mappedStatement), data, iterations);
+            double indexed = measure(() -> (ResultSetHandler) interceptor.plugin(newHandler(mappedStatement)),
+                    data, iterations);
+            System.out.printf("round %d: MyBatis 기본 매핑 %.1f ns/행, 인덱스 매핑 %.1f ns/행 (%.2fx)%n",
+                    round, mybatis, indexed, mybatis / indexed);
+        }
+    }
+
+    private static ResultSetHandler newHandler(MappedStatement mappedStatement) {
+        return new DefaultResultSetHandler(null, mappedStatement, null, null, null, RowBounds.DEFAULT);
+    }
+
+    /**
+     * 반복마다 새 핸들러로 전체 행 변환 (앞의 iterations회는 웜업으로 버림)
+     *
+     * @return 행당 평균 시간 (ns)
+     */
+    private static double measure(HandlerFactory factory, Object[][] data, int iterations) throws Exception {
+        long mapped = 0;
+        long elapsedNanos = 0;
+        for (int i = 0; i < iterations * 2; i++) {
+            Statement statement = statement(data);
+            long startNanos = System.nanoTime();
+            List<Object> results = factory.create().handleResultSets(statement);
+            if (i >= iterations) {
+                elapsedNanos += System.nanoTime() - startNanos;
+            }
+            mapped += results.size();
+        }
+        if (mapped != (long) data.length * iterations * 2) {
+            throw new IllegalStateException("변환된 행 수가 다릅니다: " + mapped);
+        }
+        return (double) elapsedNanos / ((long) iterations * data.length);
+    }
+
+    private interface HandlerFactory {
+        ResultSetHandler create();
+    }
+
+    private static Object[][] sampleRows(int rows) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[]{
+                    (long) i + 1, "user" + i, "user" + i + "@example.com", i % 7 != 0, "ACTIVE", i % 40, "NORMAL",
+                    now.plusMinutes(i), i % 3 == 0 ? null : now.plusMinutes(i + 1), null
+            };
+        }
+        return data;
+    }
+
+    // ==================== 메모리 JDBC 객체 ====================
+
+    private static Statement statement(Object[][] data) {
+        ResultSet resultSet = resultSet(data);
+        DatabaseMetaData databaseMetaData = proxy(DatabaseMetaData.class, (method, args) ->
+                "supportsMultipleResultSets".equals(method) ? Boolean.FALSE : null);
+        Connection connection = proxy(Connection.class, (method, args) ->
+                "getMetaData".equals(method) ? databaseMetaData : null);
+        boolean[] consumed = new boolean[1];
+        return proxy(Statement.class, (method, args) -> {
+            switch (method) {
+                case "getResultSet":
+                    if (consumed[0]) {
+                        return null;
+                    }
+                    consumed[0] = true;
+                    return resultSet;
+                case "getConnection":
+                    return connection;
+                case "getMoreResults":
+                    return false;
+                case "getUpdateCount":
+                    return -1;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static ResultSet resultSet(Object[][] data) {
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (method, args) -> {
+            switch (method) {
+                case "getColumnCount":
+                    return UserEntityRowMapper.COLUMNS.length;
+                case "getColumnLabel":
+                case "getColumnName":
+                    return UserEntityRowMapper.COLUMNS[(Integer) args[0] - 1];
+                case "getColumnType":
+                    return SQL_TYPES[(Integer) args[0] - 1];
+                case "getColumnClassName":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+
+        int[] cursor = {-1};
+        boolean[] closed = new boolean[1];
+        Object[] last = new Object[1];
+        return proxy(ResultSet.class, (method, args) -> {
+            switch (method) {
+                case "next":
+                    return ++cursor[0] < data.length;
+                case "getMetaData":
+                    return metaData;
+                case "close":
+                    closed[0] = true;
+                    return null;
+                case "isClosed":
+                    return closed[0];
+                case "wasNull":
+                    return last[0] == null;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                default:
+                    if (!method.startsWith("get")) {
+                        throw new UnsupportedOperationException(method);
+                    }
+                    Object value = data[cursor[0]][columnIndex(args[0])];
+                    last[0] = value;
+                    return convert(method, value);
+            }
+        });
+    }
+
+    private static int columnIndex(Object column) {
+        if (column instanceof Integer) {
+            return (Integer) column - 1;
+        }
+        int index = Arrays.asList(UserEntityRowMapper.COLUMNS).indexOf(((String) column).toLowerCase());
+        if (index < 0) {
+            throw new IllegalArgumentException("알 수 없는 컬럼: " + column);
+        }
+        return index;
+    }
+
+    private static Object convert(String method, Object value) {
+        switch (method) {
+            case "getLong":
+                return value == null ? 0L : ((Number) value).longValue();
+            case "getInt":
+                return value == null ? 0 : ((Number) value).intValue();
+            case "getBoolean":
+                return value != null && (Boolean) value;
+            case "getString":
+                return value == null ? null : value.toString();
+            case "getObject":
+                return value;
+            default:
+                throw new UnsupportedOperationException(method);
+        }
+    }
+
+    private interface JdbcMethod {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, JdbcMethod handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+}
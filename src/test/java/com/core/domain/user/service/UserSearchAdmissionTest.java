@@ -0,0 +1,94 @@
+package com.core.domain.user.service;
+
+import com.core.domain.user.dto.UserRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserSearchAdmission 비용 추정 테스트
+ * 검색 API가 실제로 만드는 조건(UserRequestDto.Search.toCriteria)으로 확인
+ */
+class UserSearchAdmissionTest {
+
+    private static final int THRESHOLD = 6;
+
+    private final UserSearchAdmission admission = new UserSearchAdmission(THRESHOLD, 60, 2, 500);
+
+    @Test
+    @DisplayName("기본 주문 통계 검색은 orders 전체 집계이므로 비싼 검색")
+    void testEstimate_DefaultWithStatsIsExpensive() {
+        UserRequestDto.Search search = new UserRequestDto.Search();
+
+        assertTrue(admission.estimate(search.toCriteria(), true) >= THRESHOLD);
+
+        search.setPage(0);
+        search.setSize(20);
+        assertTrue(admission.estimate(search.toCriteria(), true) >= THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("기간으로 집계 범위를 좁힌 첫 페이지 주문 통계 검색은 저렴한 검색")
+    void testEstimate_DateBoundedWithStatsIsCheap() {
+        UserRequestDto.Search search = new UserRequestDto.Search();
+        search.setStartDate("2024-01-01");
+        search.setEndDate("2024-01-31");
+        search.setPage(0);
+        search.setSize(20);
+
+        assertTrue(admission.estimate(search.toCriteria(), true) < THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("정확 일치 조건이 있는 검색은 다른 조건과 관계없이 비용 0")
+    void testEstimate_ExactMatchIsFree() {
+        UserRequestDto.Search search = new UserRequestDto.Search();
+        search.setUsername("alice");
+        search.setUsernamePattern("ali");
+        search.setEmailPattern("example");
+
+        assertEquals(0, admission.estimate(search.toCriteria(), false));
+    }
+
+    @Test
+    @DisplayName("부분 일치 두 개와 LIMIT 없는 검색은 비싼 검색, 첫 페이지 단일 부분 일치는 저렴한 검색")
+    void testEstimate_PatternsAndPaging() {
+        UserRequestDto.Search unbounded = new UserRequestDto.Search();
+        unbounded.setUsernamePattern("ali");
+        unbounded.setEmailPattern("example");
+        assertTrue(admission.estimate(unbounded.toCriteria(), false) >= THRESHOLD);
+
+        UserRequestDto.Search firstPage = new UserRequestDto.Search();
+        firstPage.setUsernamePattern("ali");
+        firstPage.setPage(0);
+        firstPage.setSize(20);
+        assertTrue(admission.estimate(firstPage.toCriteria(), false) < THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("공백만 있는 패턴은 정규화되어 비용에 포함되지 않음")
+    void testEstimate_BlankPatternIgnored() {
+        UserRequestDto.Search search = new UserRequestDto.Search();
+        search.setUsernamePattern("   ");
+        search.setPage(0);
+        search.setSize(20);
+
+        assertEquals(0, admission.estimate(search.toCriteria(), false));
+    }
+
+    @Test
+    @DisplayName("깊은 OFFSET은 페이지가 깊을수록 비용 증가")
+    void testEstimate_DeepOffset() {
+        UserRequestDto.Search shallow = new UserRequestDto.Search();
+        shallow.setPage(1);
+        shallow.setSize(20);
+
+        UserRequestDto.Search deep = new UserRequestDto.Search();
+        deep.setPage(5000);
+        deep.setSize(20);
+
+        assertTrue(admission.estimate(deep.toCriteria(), false) > admission.estimate(shallow.toCriteria(), false));
+        assertTrue(admission.estimate(deep.toCriteria(), false) >= THRESHOLD);
+    }
+}
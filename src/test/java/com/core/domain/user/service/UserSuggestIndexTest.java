@@ -0,0 +1,226 @@
+package com.core.domain.user.service;
+
+import com.core.common.text.SortedPrefixIndex;
+import com.core.domain.user.entity.UserEntity;
+import com.core.domain.user.event.UserChangeEvent;
+import com.core.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserSuggestIndex 테스트
+ * 기본 인덱스/델타 병합과 변경 이벤트 반영을 DB 대신 메모리 저장소로 확인
+ */
+class UserSuggestIndexTest {
+
+    @Test
+    @DisplayName("삭제 델타는 기본 인덱스 결과에서 빠지고 추가 델타는 정렬 순서대로 합쳐짐")
+    void testSnapshot_MergesDelta() {
+        UserSuggestIndex.Snapshot snapshot = new UserSuggestIndex.Snapshot(
+                SortedPrefixIndex.of(Arrays.asList("alice", "albert", "bob", "Alma")),
+                SortedPrefixIndex.of(Arrays.asList("alfred", "ALAN")),
+                new HashSet<>(Collections.singletonList("albert")));
+
+        assertEquals(Arrays.asList("ALAN", "alfred", "alice", "Alma"), snapshot.suggest("al", 10));
+        assertEquals(Arrays.asList("ALAN", "alfred"), snapshot.suggest("AL", 2));
+        assertEquals(Collections.singletonList("bob"), snapshot.suggest("b", 10));
+        assertEquals(5, snapshot.size());
+    }
+
+    @Test
+    @DisplayName("델타를 합친 새 기본 인덱스는 합치기 전과 같은 결과")
+    void testSnapshot_CompactKeepsResults() {
+        UserSuggestIndex.Snapshot snapshot = new UserSuggestIndex.Snapshot(
+                SortedPrefixIndex.of(Arrays.asList("alice", "albert", "bob")),
+                SortedPrefixIndex.of(Arrays.asList("alfred", "carol")),
+                new HashSet<>(Collections.singletonList("bob")));
+
+        UserSuggestIndex.Snapshot compacted = snapshot.compact();
+
+        assertEquals(0, compacted.added.size());
+        assertTrue(compacted.removed.isEmpty());
+        assertEquals(snapshot.size(), compacted.size());
+        for (String prefix : Arrays.asList("a", "al", "b", "c", "z")) {
+            assertEquals(snapshot.suggest(prefix, 10), compacted.suggest(prefix, 10), prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("생성/사용자명 변경/비활성화/삭제 이벤트가 다음 갱신에 반영됨")
+    void testRefresh_AppliesEvents() {
+        InMemoryUsers users = new InMemoryUsers();
+        users.put(1L, "alice", true);
+        users.put(2L, "bob", true);
+        users.put(3L, "carol", true);
+        UserSuggestIndex index = newIndex(users, 1024);
+        index.refresh();
+        assertTrue(index.isReady());
+        assertEquals(Arrays.asList("alice", "bob", "carol"), allUsernames(index));
+
+        users.put(4L, "alan", true);
+        index.onUserChanged(event(UserChangeEvent.Type.CREATED, 4L, "alan", null, "username", "isActive"));
+        users.put(1L, "alicia", true);
+        index.onUserChanged(event(UserChangeEvent.Type.UPDATED, 1L, "alicia", "alice", "username"));
+        users.put(2L, "bob", false);
+        index.onUserChanged(event(UserChangeEvent.Type.UPDATED, 2L, "bob", null, "isActive"));
+        users.remove(3L);
+        index.onUserChanged(event(UserChangeEvent.Type.DELETED, 3L, "carol", null));
+        index.refresh();
+
+        assertEquals(Arrays.asList("alan", "alicia"), allUsernames(index));
+        assertEquals(Collections.singletonList("alicia"), index.suggest("ALI", 10));
+    }
+
+    @Test
+    @DisplayName("검색 대상과 무관한 필드 변경은 다시 조회하지 않음")
+    void testRefresh_IgnoresUnrelatedUpdates() {
+        InMemoryUsers users = new InMemoryUsers();
+        users.put(1L, "alice", true);
+        UserSuggestIndex index = newIndex(users, 1024);
+        index.refresh();
+
+        users.lookups = 0;
+        index.onUserChanged(event(UserChangeEvent.Type.UPDATED, 1L, "alice", null, "email", "status"));
+        index.refresh();
+
+        assertEquals(0, users.lookups);
+        assertEquals(Collections.singletonList("alice"), allUsernames(index));
+    }
+
+    @Test
+    @DisplayName("델타가 한도를 넘으면 기본 인덱스로 합쳐지고 결과는 그대로")
+    void testRefresh_CompactsDelta() {
+        InMemoryUsers users = new InMemoryUsers();
+        users.put(1L, "alice", true);
+        UserSuggestIndex index = newIndex(users, 2);
+        index.refresh();
+
+        users.put(2L, "bob", true);
+        users.put(3L, "carol", true);
+        index.onUserChanged(event(UserChangeEvent.Type.CREATED, 2L, "bob", null, "username"));
+        index.onUserChanged(event(UserChangeEvent.Type.CREATED, 3L, "carol", null, "username"));
+        index.refresh();
+
+        Map<String, Object> stats = index.getStats();
+        assertEquals(1L, stats.get("compactions"));
+        assertEquals(3, stats.get("baseEntries"));
+        assertEquals(0, stats.get("addedEntries"));
+        assertEquals(Arrays.asList("alice", "bob", "carol"), allUsernames(index));
+    }
+
+    @Test
+    @DisplayName("이벤트 유실 시 다음 갱신에서 전체 재구성")
+    void testRefresh_RebuildsAfterLostEvents() {
+        InMemoryUsers users = new InMemoryUsers();
+        users.put(1L, "alice", true);
+        UserSuggestIndex index = newIndex(users, 1024);
+        index.refresh();
+
+        users.put(2L, "bob", true);
+        index.onEventsLost(10, 20);
+        index.refresh();
+
+        assertEquals(2L, index.getStats().get("rebuilds"));
+        assertEquals(Arrays.asList("alice", "bob"), allUsernames(index));
+    }
+
+    private static UserSuggestIndex newIndex(InMemoryUsers users, int compactThreshold) {
+        return new UserSuggestIndex(users.repository(), 2, compactThreshold, 50,
+                Duration.ofMillis(200), Duration.ofMinutes(10));
+    }
+
+    private static List<String> allUsernames(UserSuggestIndex index) {
+        List<String> usernames = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            usernames.addAll(index.suggest(String.valueOf(c), 50));
+        }
+        return usernames;
+    }
+
+    private static UserChangeEvent event(UserChangeEvent.Type type, Long id, String username,
+                                         String previousUsername, String... changedFields) {
+        return new UserChangeEvent(type, id, username, previousUsername,
+                new HashSet<>(Arrays.asList(changedFields)), 0);
+    }
+
+    /**
+     * 자동 완성 인덱스가 쓰는 조회만 구현한 메모리 저장소
+     */
+    private static final class InMemoryUsers {
+
+        private final Map<Long, UserEntity> rows = new TreeMap<>();
+        private int lookups;
+
+        void put(long id, String username, boolean active) {
+            UserEntity user = new UserEntity(id, username, username + "@example.com");
+            user.setIsActive(active);
+            rows.put(id, user);
+        }
+
+        void remove(long id) {
+            rows.get(id).setDeletedAt(LocalDateTime.now());
+        }
+
+        @SuppressWarnings("unchecked")
+        UserRepository repository() {
+            return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                    new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "findActiveUsernames":
+                                return findActiveUsernames((Long) args[0], (Integer) args[1]);
+                            case "findUsernameStatesByIds":
+                                lookups++;
+                                return findByIds((List<Long>) args[0]);
+                            case "findByUsername":
+                                lookups++;
+                                return findByUsername((String) args[0]);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private List<UserEntity> findActiveUsernames(long afterId, int limit) {
+            List<UserEntity> users = new ArrayList<>();
+            for (UserEntity user : rows.values()) {
+                if (user.getId() > afterId && user.getDeletedAt() == null && user.getIsActive() && users.size() < limit) {
+                    users.add(user);
+                }
+            }
+            return users;
+        }
+
+        private List<UserEntity> findByIds(List<Long> ids) {
+            List<UserEntity> users = new ArrayList<>();
+            for (Long id : ids) {
+                UserEntity user = rows.get(id);
+                if (user != null && user.getDeletedAt() == null) {
+                    users.add(user);
+                }
+            }
+            return users;
+        }
+
+        private UserEntity findByUsername(String username) {
+            for (UserEntity user : rows.values()) {
+                if (user.getUsername().equals(username) && user.getDeletedAt() == null) {
+                    return user;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.core.mapper;
 
 import com.core.model.User;
 import com.core.model.UserSearchCriteria;
+import com.core.model.UserStats;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -190,7 +191,7 @@ public class UserDynamicQueryTest {
         criteria.setMinOrderCount(5);
         criteria.setPriorityLevel("VIP");
 
-        List<Map<String, Object>> results = userMapper.searchUsersWithOrdersAndStats(criteria);
+        List<UserStats> results = userMapper.searchUsersWithOrdersAndStats(criteria);
         assertNotNull(results);
     }
 
@@ -278,7 +279,7 @@ public class UserDynamicQueryTest {
         criteria.setStartDate("2024-01-01");
         criteria.setEndDate("2024-12-31");
 
-        List<Map<String, Object>> results = sqlBuilderMapper.searchUsersWithJoinAndAggregation(criteria);
+        List<UserStats> results = sqlBuilderMapper.searchUsersWithJoinAndAggregation(criteria);
         assertNotNull(results);
     }
 
@@ -327,7 +328,7 @@ public class UserDynamicQueryTest {
         criteria.setUsernamePattern("test");
         criteria.setIncludeDeleted(true);
 
-        List<Map<String, Object>> results = sqlBuilderMapper.searchUsersWithUnion(criteria);
+        List<UserStats> results = sqlBuilderMapper.searchUsersWithUnion(criteria);
         assertNotNull(results);
     }
 
@@ -339,7 +340,7 @@ public class UserDynamicQueryTest {
         criteria.setPriorityLevel("VIP");
         criteria.setMinOrderCount(50);
 
-        List<Map<String, Object>> results = sqlBuilderMapper.searchUsersWithCTE(criteria);
+        List<UserStats> results = sqlBuilderMapper.searchUsersWithCTE(criteria);
         assertNotNull(results);
     }
 
@@ -350,7 +351,7 @@ public class UserDynamicQueryTest {
         criteria.setPriorityLevel("PREMIUM");
         criteria.setIsActive(true);
 
-        List<Map<String, Object>> results = sqlBuilderMapper.selectUsersWithDynamicCase(criteria);
+        List<UserStats> results = sqlBuilderMapper.selectUsersWithDynamicCase(criteria);
         assertNotNull(results);
     }
 
@@ -420,7 +421,7 @@ public class UserDynamicQueryTest {
         criteria.setSortDirection("ASC");
         criteria.setLimit(20);
 
-        List<Map<String, Object>> results = sqlBuilderMapper.complexAnnotationDynamicQuery(criteria);
+        List<UserStats> results = sqlBuilderMapper.complexAnnotationDynamicQuery(criteria);
         assertNotNull(results);
     }
 
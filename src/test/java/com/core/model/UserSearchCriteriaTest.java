@@ -0,0 +1,70 @@
+package com.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserSearchCriteria 키 문자열 테스트
+ * 요청 병합/ETag 키는 Mapper에 전달되는 값이 다르면 반드시 달라야 함
+ */
+class UserSearchCriteriaTest {
+
+    @Test
+    @DisplayName("구분자가 들어 있는 값이 다른 조건 조합과 같은 키가 되지 않음")
+    void testToCanonicalString_NoDelimiterCollision() {
+        UserSearchCriteria injected = new UserSearchCriteria();
+        injected.setUsernamePattern("x;emailPattern=y");
+
+        UserSearchCriteria split = new UserSearchCriteria();
+        split.setUsernamePattern("x");
+        split.setEmailPattern("y");
+
+        assertNotEquals(split.toCanonicalString(), injected.toCanonicalString());
+    }
+
+    @Test
+    @DisplayName("앞뒤 공백이 다른 값은 정규화 전에는 다른 키")
+    void testToCanonicalString_ExactValues() {
+        UserSearchCriteria padded = new UserSearchCriteria();
+        padded.setUsername(" alice");
+
+        UserSearchCriteria plain = new UserSearchCriteria();
+        plain.setUsername("alice");
+
+        assertNotEquals(plain.toCanonicalString(), padded.toCanonicalString());
+        assertEquals(plain.toCanonicalString(), padded.normalize().toCanonicalString());
+        assertEquals("alice", padded.getUsername());
+    }
+
+    @Test
+    @DisplayName("리스트 항목 경계가 키에 반영됨")
+    void testToCanonicalString_ListBoundaries() {
+        UserSearchCriteria one = new UserSearchCriteria();
+        one.setSearchKeywords(Collections.singletonList("a,b"));
+
+        UserSearchCriteria two = new UserSearchCriteria();
+        two.setSearchKeywords(Arrays.asList("a", "b"));
+
+        assertNotEquals(two.toCanonicalString(), one.toCanonicalString());
+    }
+
+    @Test
+    @DisplayName("normalize는 빈 값을 null로, 정렬 방향을 대문자로 변환")
+    void testNormalize() {
+        UserSearchCriteria criteria = new UserSearchCriteria();
+        criteria.setStartDate("");
+        criteria.setSortDirection(" asc ");
+        criteria.setEmailDomains(Arrays.asList(" ", "example.com "));
+
+        criteria.normalize();
+
+        assertNull(criteria.getStartDate());
+        assertEquals("ASC", criteria.getSortDirection());
+        assertEquals(Collections.singletonList("example.com"), criteria.getEmailDomains());
+    }
+}